@@ -5,6 +5,7 @@ plugins {
 	id("org.springframework.boot") version "3.2.2"
 	id("io.spring.dependency-management") version "1.1.4"
 	id("com.diffplug.spotless") version "6.25.0"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.stockroom"
@@ -42,6 +43,10 @@ dependencies {
 
 	// Database
 	runtimeOnly("org.postgresql:postgresql")
+	implementation("org.flywaydb:flyway-core") // 스키마 변경 마이그레이션 (db/migration)
+
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
 	// JWT
 	implementation("io.jsonwebtoken:jjwt-api:0.12.3")
@@ -78,6 +83,9 @@ dependencies {
 	testCompileOnly("org.projectlombok:lombok")
 	testAnnotationProcessor("org.projectlombok:lombok")
 	testAnnotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
+
+	// Benchmark (src/jmh)
+	jmh("org.testcontainers:postgresql")
 }
 
 dependencyManagement {
@@ -102,6 +110,18 @@ tasks.withType<Test> {
 }
 
 
+// JMH 벤치마크 설정 (./gradlew jmh, 결과는 버전별 JSON으로 저장)
+// 예: ./gradlew jmh -PjmhIncludes=PortfolioBenchmark
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("reports/jmh/results-${project.version}.json"))
+	project.findProperty("jmhIncludes")?.let { includes.set(listOf(it.toString())) }
+}
+
 // Spotless 코드 포맷팅 설정 (Google Java Style)
 spotless {
 	java {
@@ -0,0 +1,144 @@
+package com.example.claude_backend.application.trade;
+
+import com.example.claude_backend.ClaudeBackendApplication;
+import com.example.claude_backend.application.stock.master.StockDirectory;
+import com.example.claude_backend.application.stock.quote.PriceBook;
+import com.example.claude_backend.application.trade.dto.TradeRequest;
+import com.example.claude_backend.application.trade.dto.TradeResponse;
+import com.example.claude_backend.application.trade.service.TradeService;
+import com.example.claude_backend.domain.account.entity.Account;
+import com.example.claude_backend.domain.account.repository.AccountRepository;
+import com.example.claude_backend.domain.common.Money;
+import com.example.claude_backend.domain.user.entity.User;
+import com.example.claude_backend.domain.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 체결 처리량 벤치마크 (전체 애플리케이션 + PostgreSQL)
+ *
+ * <p>체결 경로가 PostgreSQL 전용 문장(UPDATE ... RETURNING, INSERT ... ON CONFLICT)을 사용하므로 H2 대신
+ * Testcontainers PostgreSQL에서 애플리케이션을 띄우고, 스레드별 사용자가 1주씩 매수/매도를 번갈아 실행한다. 실행에는 Docker가 필요하다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+public class TradeExecutionBenchmark {
+
+  private static final String TICKER = "005930";
+
+  private PostgreSQLContainer<?> postgres;
+  private ConfigurableApplicationContext context;
+
+  TradeService tradeService;
+  UserRepository userRepository;
+  AccountRepository accountRepository;
+
+  @Setup(Level.Trial)
+  public void startApplication() {
+    postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+    postgres.start();
+
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("spring.profiles.active", "benchmark");
+    properties.put("spring.datasource.url", postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+    properties.put("spring.datasource.username", postgres.getUsername());
+    properties.put("spring.datasource.password", postgres.getPassword());
+    properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+    properties.put("spring.jpa.hibernate.ddl-auto", "update");
+    properties.put("spring.jpa.show-sql", "false");
+    properties.put("spring.security.oauth2.client.registration.google.client-id", "benchmark");
+    properties.put("spring.security.oauth2.client.registration.google.client-secret", "benchmark");
+    properties.put("aws.bucket", "benchmark");
+    properties.put("aws.region", "ap-northeast-2");
+    properties.put("server.port", "0");
+    properties.put("logging.level.root", "WARN");
+
+    context =
+        new SpringApplicationBuilder(ClaudeBackendApplication.class).properties(properties).run();
+    tradeService = context.getBean(TradeService.class);
+    userRepository = context.getBean(UserRepository.class);
+    accountRepository = context.getBean(AccountRepository.class);
+
+    // 종목은 시작 시 종목 마스터로 반영되므로 조회만 하고, 시세는 시세판에 넣는다
+    context.getBean(StockDirectory.class).get(TICKER);
+    context
+        .getBean(PriceBook.class)
+        .apply(TICKER, new BigDecimal("71300"), 0, LocalDate.now(), LocalTime.now());
+  }
+
+  @TearDown(Level.Trial)
+  public void stopApplication() {
+    if (context != null) {
+      context.close();
+    }
+    if (postgres != null) {
+      postgres.stop();
+    }
+  }
+
+  /** 스레드별 사용자 (사용자 단위 직렬화의 영향을 받지 않도록 분리) */
+  @State(Scope.Thread)
+  public static class Trader {
+    private UUID userId;
+    private boolean buy;
+
+    @Setup(Level.Trial)
+    public void createUser(TradeExecutionBenchmark benchmark) {
+      String suffix = UUID.randomUUID().toString().substring(0, 8);
+      User user =
+          benchmark.userRepository.save(
+              User.builder()
+                  .googleSub("benchmark-" + suffix)
+                  .email("benchmark-" + suffix + "@example.com")
+                  .nickname("bench" + suffix)
+                  .build());
+      benchmark.accountRepository.save(
+          Account.builder().user(user).balance(Money.won(1_000_000_000L)).build());
+      userId = user.getId();
+      buy = true;
+    }
+
+    private TradeRequest nextRequest() {
+      TradeRequest request = new TradeRequest();
+      request.setStockCode(TICKER);
+      request.setStockName("삼성전자");
+      request.setQuantity(1);
+      request.setPrice(71_300.0);
+      request.setTradeType(buy ? "BUY" : "SELL");
+      buy = !buy;
+      return request;
+    }
+  }
+
+  @Benchmark
+  public TradeResponse executeTrade(Trader trader) {
+    return tradeService.executeTrade(trader.nextRequest(), trader.userId);
+  }
+}
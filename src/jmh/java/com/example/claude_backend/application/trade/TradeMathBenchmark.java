@@ -0,0 +1,80 @@
+package com.example.claude_backend.application.trade;
+
+import com.example.claude_backend.domain.common.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 체결 금액 계산 벤치마크
+ *
+ * <p>매수 후 평균단가, 매도 손익/도토리 계산을 {@link Money}(long)와 기존 BigDecimal 방식으로 비교한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TradeMathBenchmark {
+
+  private static final Money ACORN_PROFIT_UNIT = Money.won(100);
+
+  // 요청 값 (TradeRequest는 Double 가격을 받는다)
+  private double requestPrice = 71_300.0;
+  private int requestQuantity = 37;
+
+  // 기존 보유 내역
+  private long holdingQuantity = 120;
+  private Money holdingAverage = Money.of(68_950.25);
+  private BigDecimal holdingAverageDecimal = new BigDecimal("68950.25");
+
+  /** 매수 후 평균단가 = (보유수량 × 평균단가 + 매수수량 × 매수가) / 전체 수량 */
+  @Benchmark
+  public Money averagePriceMoney() {
+    Money price = Money.of(requestPrice);
+    long totalQuantity = holdingQuantity + requestQuantity;
+    long totalCost =
+        holdingAverage.times(holdingQuantity).plus(price.times(requestQuantity)).getUnits();
+    return Money.ofUnits(Math.floorDiv(totalCost + totalQuantity / 2, totalQuantity));
+  }
+
+  @Benchmark
+  public BigDecimal averagePriceBigDecimal() {
+    BigDecimal price = BigDecimal.valueOf(requestPrice);
+    BigDecimal totalQuantity = BigDecimal.valueOf(holdingQuantity + requestQuantity);
+    return holdingAverageDecimal
+        .multiply(BigDecimal.valueOf(holdingQuantity))
+        .add(price.multiply(BigDecimal.valueOf(requestQuantity)))
+        .divide(totalQuantity, 2, RoundingMode.HALF_UP);
+  }
+
+  /** 매도 총액, 손익, 도토리 지급 수 */
+  @Benchmark
+  public long sellSettlementMoney() {
+    Money sellPrice = Money.of(requestPrice);
+    Money totalAmount = sellPrice.times(requestQuantity);
+    Money totalProfit = sellPrice.minus(holdingAverage).times(requestQuantity);
+    long acorn = totalProfit.isPositive() ? totalProfit.quotient(ACORN_PROFIT_UNIT) : 0;
+    return totalAmount.getUnits() + acorn;
+  }
+
+  @Benchmark
+  public long sellSettlementBigDecimal() {
+    BigDecimal sellPrice = BigDecimal.valueOf(requestPrice);
+    BigDecimal totalAmount = sellPrice.multiply(BigDecimal.valueOf(requestQuantity));
+    BigDecimal totalProfit =
+        sellPrice.subtract(holdingAverageDecimal).multiply(BigDecimal.valueOf(requestQuantity));
+    long acorn =
+        totalProfit.signum() > 0
+            ? totalProfit.divide(BigDecimal.valueOf(100), 0, RoundingMode.DOWN).longValue()
+            : 0;
+    return totalAmount.longValue() + acorn;
+  }
+}
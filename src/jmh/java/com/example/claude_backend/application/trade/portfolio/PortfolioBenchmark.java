@@ -0,0 +1,65 @@
+package com.example.claude_backend.application.trade.portfolio;
+
+import com.example.claude_backend.domain.common.Money;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 포트폴리오 집계 벤치마크
+ *
+ * <p>보유 종목 수별로 변경 없는 조회(스냅샷 재사용), 시세 변경 반영, 시세 변경 후 조회(스냅샷 재생성) 비용을 측정한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PortfolioBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int holdings;
+
+  private UserPortfolio portfolio;
+  private String[] tickers;
+  private long tick;
+
+  @Setup
+  public void setUp() {
+    portfolio = new UserPortfolio();
+    tickers = new String[holdings];
+    for (int i = 0; i < holdings; i++) {
+      tickers[i] = String.format("%06d", i);
+      portfolio.applyHolding(
+          tickers[i], "종목" + i, 10 + i, Money.won(10_000 + i), Money.won(10_500 + i).getUnits());
+    }
+    portfolio.snapshot();
+  }
+
+  /** 변경이 없을 때 조회 */
+  @Benchmark
+  public PortfolioSnapshot readUnchanged() {
+    return portfolio.snapshot();
+  }
+
+  /** 보유 종목 하나의 시세 변경 반영 */
+  @Benchmark
+  public void applyPrice() {
+    long next = ++tick;
+    portfolio.applyPrice(tickers[(int) (next % holdings)], ticker -> 1_000_000L + next);
+  }
+
+  /** 시세 변경 직후 조회 */
+  @Benchmark
+  public PortfolioSnapshot applyPriceThenRead() {
+    applyPrice();
+    return portfolio.snapshot();
+  }
+}
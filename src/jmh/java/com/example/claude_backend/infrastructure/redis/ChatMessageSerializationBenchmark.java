@@ -0,0 +1,81 @@
+package com.example.claude_backend.infrastructure.redis;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 채팅 메시지 Redis 직렬화 벤치마크
+ *
+ * <p>{@link RedisConfig#redisTemplate}의 값 직렬화기(기본 타입 정보 포함 JSON)와 {@link ChatMessageCodec} 바이너리의
+ * 인코딩/디코딩 시간을 비교한다. 메시지당 바이트 수는 준비 단계에서 출력한다. 연결은 만들지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageSerializationBenchmark {
+
+  private static final String ORIGIN = UUID.randomUUID().toString();
+
+  private RedisSerializer<Object> serializer;
+  private ChatMessage message;
+  private byte[] serialized;
+  private byte[] encoded;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    serializer =
+        (RedisSerializer<Object>)
+            new RedisConfig().redisTemplate(new LettuceConnectionFactory()).getValueSerializer();
+    message =
+        ChatMessage.builder()
+            .type(ChatMessage.MessageType.CHAT)
+            .roomId("global")
+            .senderId(UUID.randomUUID())
+            .senderNickname("도토리부자")
+            .senderCharacterCode("001")
+            .content("오늘 삼성전자 어떻게 보세요? 저는 조금 더 지켜볼 생각입니다.")
+            .timestamp(LocalDateTime.of(2025, 1, 20, 9, 30, 15))
+            .build();
+    serialized = serializer.serialize(message);
+    encoded = ChatMessageCodec.encode(ORIGIN, message);
+
+    System.out.printf(
+        "%n메시지당 바이트 - JSON: %d, 바이너리(노드 ID %d바이트 포함): %d%n",
+        serialized.length, ORIGIN.length(), encoded.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return serializer.serialize(message);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return serializer.deserialize(serialized);
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() {
+    return ChatMessageCodec.encode(ORIGIN, message);
+  }
+
+  @Benchmark
+  public ChatMessageCodec.Frame decodeBinary() {
+    return ChatMessageCodec.decode(encoded);
+  }
+}
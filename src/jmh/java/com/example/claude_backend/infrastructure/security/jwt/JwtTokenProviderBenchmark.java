@@ -0,0 +1,44 @@
+package com.example.claude_backend.infrastructure.security.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 검증 벤치마크
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-for-jmh-only-0123456789abcdef";
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 7_200_000L);
+    token = jwtTokenProvider.createToken(UUID.randomUUID());
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtTokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public UUID getUserIdFromToken() {
+    return jwtTokenProvider.getUserIdFromToken(token);
+  }
+}
@@ -4,9 +4,9 @@ import com.example.claude_backend.application.account.dto.AccountResponse;
 import com.example.claude_backend.domain.account.entity.Account;
 import com.example.claude_backend.domain.account.exception.InsufficientBalanceException;
 import com.example.claude_backend.domain.account.repository.AccountRepository;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.user.entity.User;
 import com.example.claude_backend.domain.user.repository.UserRepository;
-import java.math.BigDecimal;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +30,7 @@ public class AccountService {
 
   /** 잔액 차감 */
   @Transactional
-  public void deductBalance(UUID accountId, BigDecimal amount) {
+  public void deductBalance(UUID accountId, Money amount) {
     Account account =
         accountRepository
             .findById(accountId)
@@ -43,7 +43,7 @@ public class AccountService {
 
   /** 잔액 증가 */
   @Transactional
-  public void addBalance(UUID accountId, BigDecimal amount) {
+  public void addBalance(UUID accountId, Money amount) {
     Account account =
         accountRepository
             .findById(accountId)
@@ -63,7 +63,7 @@ public class AccountService {
 
   /** 계좌 생성 */
   @Transactional
-  public Account createAccount(User user, BigDecimal initialBalance) {
+  public Account createAccount(User user, Money initialBalance) {
     Account account = Account.builder().user(user).balance(initialBalance).build();
 
     Account savedAccount = accountRepository.save(account);
@@ -72,7 +72,7 @@ public class AccountService {
   }
 
   /** 잔액 조회 */
-  public BigDecimal getBalance(UUID accountId) {
+  public Money getBalance(UUID accountId) {
     Account account =
         accountRepository
             .findById(accountId)
@@ -81,7 +81,7 @@ public class AccountService {
   }
 
   /** 잔액 충분 여부 확인 */
-  public boolean hasSufficientBalance(UUID accountId, BigDecimal amount) {
+  public boolean hasSufficientBalance(UUID accountId, Money amount) {
     Account account =
         accountRepository
             .findById(accountId)
@@ -115,7 +115,7 @@ public class AccountService {
       throw new IllegalArgumentException("이미 계좌가 존재합니다: " + userId);
     }
 
-    Account account = createAccount(user, BigDecimal.valueOf(initialBalance));
+    Account account = createAccount(user, Money.of(initialBalance));
     return convertToAccountResponse(account);
   }
 
@@ -123,7 +123,7 @@ public class AccountService {
   @Transactional
   public void deposit(UUID userId, Double amount) {
     Account account = getUserAccount(userId);
-    account.addBalance(BigDecimal.valueOf(amount));
+    account.addBalance(Money.of(amount));
     accountRepository.save(account);
     log.info("계좌 입금 완료 - 사용자 ID: {}, 입금 금액: {}", userId, amount);
   }
@@ -132,10 +132,11 @@ public class AccountService {
   @Transactional
   public void withdraw(UUID userId, Double amount) {
     Account account = getUserAccount(userId);
-    if (!account.hasSufficientBalance(BigDecimal.valueOf(amount))) {
+    Money withdrawal = Money.of(amount);
+    if (!account.hasSufficientBalance(withdrawal)) {
       throw new InsufficientBalanceException("잔액이 부족합니다.");
     }
-    account.subtractBalance(BigDecimal.valueOf(amount));
+    account.subtractBalance(withdrawal);
     accountRepository.save(account);
     log.info("계좌 출금 완료 - 사용자 ID: {}, 출금 금액: {}", userId, amount);
   }
@@ -178,7 +179,7 @@ public class AccountService {
     return AccountResponse.builder()
         .accountId(account.getId())
         .userId(account.getUser().getId())
-        .balance(account.getBalance())
+        .balance(account.getBalance().toBigDecimal())
         .acorn(account.getAcorn())
         .createdAt(account.getCreatedAt())
         .updatedAt(account.getUpdatedAt())
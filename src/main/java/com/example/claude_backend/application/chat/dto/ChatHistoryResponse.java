@@ -0,0 +1,33 @@
+package com.example.claude_backend.application.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 채팅방 메시지 히스토리 응답 DTO
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatHistoryResponse {
+
+  /** 메시지 목록 (오래된 순) */
+  private List<ChatMessage> messages;
+
+  /** 이전 페이지 조회용 커서 (다음 요청의 before 값, 더 없으면 null) */
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  private Long nextCursor;
+
+  /** 이전 메시지 존재 여부 */
+  private boolean hasMore;
+}
@@ -22,6 +22,10 @@ import lombok.Setter;
 @Builder
 public class ChatMessage {
 
+  /** 메시지 ID (시간순 정렬, 히스토리 커서로 사용 / JavaScript 정밀도 문제로 문자열로 전달) */
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  private Long id;
+
   /** 메시지 타입 */
   private MessageType type;
 
@@ -0,0 +1,7 @@
+package com.example.claude_backend.application.chat.exception;
+
+public class ChatRoomFullException extends RuntimeException {
+  public ChatRoomFullException(String roomId, int maxUserCount) {
+    super(String.format("채팅방 인원이 가득 찼습니다. 방: %s, 최대 인원: %d", roomId, maxUserCount));
+  }
+}
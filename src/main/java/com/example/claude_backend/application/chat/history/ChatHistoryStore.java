@@ -0,0 +1,165 @@
+package com.example.claude_backend.application.chat.history;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import com.example.claude_backend.infrastructure.redis.ChatMessageCodec;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 메시지 저장소
+ *
+ * <p>채팅방마다 최근 {@code messages-per-room}개의 메시지를 메모리 링 버퍼에 ID 순으로 보관한다. 메시지를 발행한 노드는 같은 메시지를 Redis 목록
+ * {@code chat:history:{roomId}}(길이 제한)에도 저장하며, 메모리에 없는 채팅방은 처음 조회할 때 Redis에서 채운다. 보관하는 채팅방 수도 제한하므로
+ * 메모리 사용량은 {@code max-rooms × messages-per-room}을 넘지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatHistoryStore {
+
+  private static final String KEY_PREFIX = "chat:history:";
+
+  private final RedisTemplate<byte[], byte[]> chatRedisTemplate;
+  private final int capacity;
+  private final LoadingCache<String, RoomHistory> rooms;
+
+  public ChatHistoryStore(
+      RedisTemplate<byte[], byte[]> chatRedisTemplate,
+      @Value("${app.chat.history.messages-per-room:100}") int capacity,
+      @Value("${app.chat.history.max-rooms:1000}") long maxRooms,
+      @Value("${app.chat.history.idle-minutes:60}") long idleMinutes) {
+    this.chatRedisTemplate = chatRedisTemplate;
+    this.capacity = capacity;
+    this.rooms =
+        Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .build(this::load);
+  }
+
+  /** 채팅방 히스토리 Redis 키 */
+  public static byte[] redisKey(String roomId) {
+    return (KEY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** 채팅방별 보관 메시지 수 */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** 메모리 히스토리에 메시지 추가 (ID가 없는 메시지는 보관하지 않음) */
+  public void append(ChatMessage message) {
+    if (message.getId() == null) {
+      return;
+    }
+    rooms.get(message.getRoomId()).add(message);
+  }
+
+  /**
+   * 최근 메시지 조회
+   *
+   * @param roomId 채팅방 ID
+   * @param before 이 ID보다 이전 메시지만 조회 (null이면 가장 최근부터)
+   * @param size 최대 개수
+   * @return 오래된 순으로 정렬된 메시지
+   */
+  public List<ChatMessage> getMessages(String roomId, Long before, int size) {
+    return rooms.get(roomId).page(before, size);
+  }
+
+  private RoomHistory load(String roomId) {
+    RoomHistory history = new RoomHistory(capacity);
+    try {
+      List<byte[]> encoded =
+          chatRedisTemplate.opsForList().range(redisKey(roomId), 0, capacity - 1);
+      if (encoded != null) {
+        for (byte[] bytes : encoded) {
+          history.add(ChatMessageCodec.decode(bytes).getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("채팅 히스토리 로드 실패 - 방: {}, 원인: {}", roomId, e.getMessage());
+    }
+    return history;
+  }
+
+  /** 채팅방 메시지 링 버퍼 (ID 오름차순) */
+  static final class RoomHistory {
+
+    private final ChatMessage[] buffer;
+    private int start;
+    private int size;
+
+    RoomHistory(int capacity) {
+      this.buffer = new ChatMessage[capacity];
+    }
+
+    /** ID 순서에 맞춰 추가 (이미 있는 ID는 무시, 가득 차면 가장 오래된 메시지 제거) */
+    synchronized void add(ChatMessage message) {
+      long id = message.getId();
+      int position = size;
+      while (position > 0) {
+        long previous = get(position - 1).getId();
+        if (previous == id) {
+          return;
+        }
+        if (previous < id) {
+          break;
+        }
+        position--;
+      }
+
+      if (size == buffer.length) {
+        if (position == 0) {
+          return; // 보관 중인 메시지보다 오래됨
+        }
+        buffer[start] = null;
+        start = (start + 1) % buffer.length;
+        size--;
+        position--;
+      }
+      for (int i = size; i > position; i--) {
+        set(i, get(i - 1));
+      }
+      set(position, message);
+      size++;
+    }
+
+    synchronized List<ChatMessage> page(Long before, int limit) {
+      int end = size;
+      if (before != null) {
+        while (end > 0 && get(end - 1).getId() >= before) {
+          end--;
+        }
+      }
+      int from = Math.max(0, end - limit);
+      if (from == end) {
+        return Collections.emptyList();
+      }
+      List<ChatMessage> messages = new ArrayList<>(end - from);
+      for (int i = from; i < end; i++) {
+        messages.add(get(i));
+      }
+      return messages;
+    }
+
+    private ChatMessage get(int index) {
+      return buffer[(start + index) % buffer.length];
+    }
+
+    private void set(int index, ChatMessage message) {
+      buffer[(start + index) % buffer.length] = message;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.claude_backend.application.chat.history;
+
+import com.example.claude_backend.common.config.NodeIdentity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 생성기
+ *
+ * <p>{@code 경과 밀리초(41비트) | 노드(10비트) | 순번(12비트)} 형태의 long ID를 만든다. 노드 안에서는 단조 증가하고 노드 간에도 대략 시간순이므로
+ * 별도 저장소 없이 히스토리 커서로 사용할 수 있다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+  /** 기준 시각 (2025-01-01T00:00:00Z) */
+  private static final long EPOCH_MILLIS = 1735689600000L;
+
+  private static final int NODE_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final long nodeBits;
+  private long lastMillis = -1;
+  private long sequence;
+
+  public ChatMessageIdGenerator(NodeIdentity nodeIdentity) {
+    long node = nodeIdentity.getId().hashCode() & ((1L << NODE_BITS) - 1);
+    this.nodeBits = node << SEQUENCE_BITS;
+  }
+
+  /** 다음 메시지 ID */
+  public synchronized long nextId() {
+    // 시계가 뒤로 가면 마지막 시각을 계속 사용한다
+    long millis = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastMillis);
+    if (millis == lastMillis) {
+      sequence = (sequence + 1) & SEQUENCE_MASK;
+      if (sequence == 0) {
+        // 같은 밀리초에 순번을 모두 쓰면 다음 밀리초로 넘긴다
+        millis = ++lastMillis;
+      }
+    } else {
+      sequence = 0;
+      lastMillis = millis;
+    }
+    return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+  }
+}
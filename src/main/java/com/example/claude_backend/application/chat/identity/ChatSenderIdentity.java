@@ -0,0 +1,33 @@
+package com.example.claude_backend.application.chat.identity;
+
+import com.example.claude_backend.domain.user.entity.User;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 발신자 정보 스냅샷 (불변)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@AllArgsConstructor
+public class ChatSenderIdentity {
+
+  /** 기본 캐릭터 코드 */
+  public static final String DEFAULT_CHARACTER_CODE = "001";
+
+  private final UUID userId;
+  private final String nickname;
+  private final String characterCode;
+
+  /** User 엔티티로부터 스냅샷 생성 */
+  public static ChatSenderIdentity from(User user) {
+    String characterCode = DEFAULT_CHARACTER_CODE;
+    if (user.getProfile() != null && user.getProfile().getCurrentCharacterCode() != null) {
+      characterCode = user.getProfile().getCurrentCharacterCode();
+    }
+    return new ChatSenderIdentity(user.getId(), user.getNickname(), characterCode);
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.claude_backend.application.chat.identity;
+
+import com.example.claude_backend.application.user.event.UserChangedEvent;
+import com.example.claude_backend.application.user.service.UserService;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채팅 발신자 정보 저장소
+ *
+ * <p>STOMP CONNECT 시 사용자 정보를 한 번 조회해 세션 속성({@link #SESSION_ATTRIBUTE})에 보관하고, 같은 사용자의 세션은 하나의
+ * {@link Handle}을 공유한다. 닉네임이나 캐릭터가 바뀌면({@link UserChangedEvent}, 다른 노드는 Redis 무효화 메시지) 접속 중인 사용자만
+ * 다시 조회하므로 채팅 메시지 처리 중에는 DB 조회가 없다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSenderIdentityStore {
+
+  /** WebSocket 세션 속성 이름 (값: {@link Handle}) */
+  public static final String SESSION_ATTRIBUTE = "chatSender";
+
+  private final UserService userService;
+
+  // 접속 중인 사용자별 발신자 정보
+  private final Map<UUID, Handle> handles = new ConcurrentHashMap<>();
+
+  /** 세션 연결 시 발신자 정보 등록 (첫 세션이면 DB에서 로드) */
+  public Handle attach(UUID userId) {
+    return handles.compute(
+        userId,
+        (id, handle) -> {
+          Handle attached = handle != null ? handle : new Handle(load(id));
+          attached.sessions++;
+          return attached;
+        });
+  }
+
+  /** 세션 종료 시 발신자 정보 해제 (마지막 세션이면 제거) */
+  public void detach(UUID userId) {
+    handles.computeIfPresent(userId, (id, handle) -> --handle.sessions > 0 ? handle : null);
+  }
+
+  /** 발신자 정보 조회 (접속 중이 아니면 DB에서 로드) */
+  public ChatSenderIdentity get(UUID userId) {
+    Handle handle = handles.get(userId);
+    return handle != null ? handle.identity : load(userId);
+  }
+
+  /** 접속 중인 사용자의 발신자 정보 다시 로드 */
+  public void refresh(UUID userId) {
+    Handle handle = handles.get(userId);
+    if (handle == null) {
+      return;
+    }
+    try {
+      handle.identity = load(userId);
+      log.debug("채팅 발신자 정보 갱신 - 사용자: {}", userId);
+    } catch (RuntimeException e) {
+      log.warn("채팅 발신자 정보 갱신 실패 - 사용자: {}, 원인: {}", userId, e.getMessage());
+    }
+  }
+
+  /** 사용자 정보 변경 커밋 후 갱신 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    refresh(event.getUserId());
+  }
+
+  private ChatSenderIdentity load(UUID userId) {
+    return ChatSenderIdentity.from(userService.getUserEntityById(userId));
+  }
+
+  /** 사용자별 발신자 정보 (같은 사용자의 세션이 공유) */
+  public static final class Handle {
+
+    private volatile ChatSenderIdentity identity;
+
+    // handles.compute 안에서만 변경
+    private int sessions;
+
+    private Handle(ChatSenderIdentity identity) {
+      this.identity = identity;
+    }
+
+    public ChatSenderIdentity getIdentity() {
+      return identity;
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package com.example.claude_backend.application.chat.presence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 접속자 저장소
+ *
+ * <p>접속 정보는 WebSocket 세션 단위로 Redis ZSET에 저장하며, 점수는 만료 시각(epoch 밀리초)이다. 각 노드는 자기 세션의 만료 시각을 주기적으로
+ * 갱신하므로 노드가 비정상 종료되어도 해당 세션은 TTL 후 집계에서 빠진다. 조회는 만료되지 않은 항목만 대상으로 하며, 채팅방 접속자 목록은 짧은 시간 로컬에 캐시한다.
+ * Redis에 연결할 수 없으면 현재 노드의 세션만으로 응답한다.
+ *
+ * <p>입장은 Lua 스크립트 한 번으로 만료 항목 정리, 인원 확인, 등록을 원자적으로 처리하므로 여러 노드에서 동시에 입장해도 최대 인원을 넘지 않는다.
+ *
+ * <ul>
+ *   <li>{@code chat:presence:room:{roomId}} - 멤버 {@code {userId}/{sessionId}}
+ *   <li>{@code chat:presence:user:{userId}} - 멤버 {@code {roomId}/{sessionId}}
+ * </ul>
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatPresenceStore {
+
+  private static final String ROOM_KEY_PREFIX = "chat:presence:room:";
+  private static final String USER_KEY_PREFIX = "chat:presence:user:";
+  private static final char MEMBER_SEPARATOR = '/';
+
+  // KEYS: 채팅방 키, 사용자 키 / ARGV: 현재 시각, 만료 시각, 사용자 ID, 세션 ID, 채팅방 ID, 최대 인원, TTL
+  // 이미 입장한 사용자(다른 세션 포함)는 인원과 관계없이 등록한다. 반환값 1: 입장, 0: 인원 초과
+  private static final RedisScript<Long> JOIN_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+          local users = {}
+          local count = 0
+          local present = false
+          for _, member in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do
+            local user = string.match(member, '^([^/]*)/')
+            if user == ARGV[3] then
+              present = true
+            end
+            if not users[user] then
+              users[user] = true
+              count = count + 1
+            end
+          end
+          if not present and count >= tonumber(ARGV[6]) then
+            return 0
+          end
+          redis.call('ZADD', KEYS[1], ARGV[2], ARGV[3] .. '/' .. ARGV[4])
+          redis.call('ZADD', KEYS[2], ARGV[2], ARGV[5] .. '/' .. ARGV[4])
+          redis.call('PEXPIRE', KEYS[1], ARGV[7])
+          redis.call('PEXPIRE', KEYS[2], ARGV[7])
+          return 1
+          """,
+          Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final long ttlMillis;
+
+  // 현재 노드의 세션별 접속 채팅방 (하트비트 갱신과 연결 종료 정리에 사용)
+  private final Map<String, LocalSession> sessions = new ConcurrentHashMap<>();
+
+  // 채팅방별 접속자 근거리 캐시
+  private final Cache<String, Set<UUID>> roomUsersCache;
+
+  public ChatPresenceStore(
+      StringRedisTemplate stringRedisTemplate,
+      @Value("${app.chat.presence.ttl-seconds:90}") long ttlSeconds,
+      @Value("${app.chat.presence.near-cache-ms:500}") long nearCacheMillis) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+    this.roomUsersCache =
+        Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMillis(nearCacheMillis))
+            .build();
+  }
+
+  /**
+   * 세션을 채팅방 접속자로 등록 (최대 인원 확인)
+   *
+   * @param maxUsers 채팅방 최대 인원 (이미 입장한 사용자의 다른 세션은 인원 확인 없이 등록)
+   * @return 입장 여부 (인원이 가득 차면 false)
+   */
+  public boolean join(String roomId, UUID userId, String sessionId, int maxUsers) {
+    long now = System.currentTimeMillis();
+    boolean admitted;
+    try {
+      Long result =
+          stringRedisTemplate.execute(
+              JOIN_SCRIPT,
+              List.of(ROOM_KEY_PREFIX + roomId, USER_KEY_PREFIX + userId),
+              String.valueOf(now),
+              String.valueOf(now + ttlMillis),
+              userId.toString(),
+              sessionId,
+              roomId,
+              String.valueOf(maxUsers),
+              String.valueOf(ttlMillis));
+      admitted = result != null && result == 1L;
+    } catch (RuntimeException e) {
+      log.warn("채팅방 입장 확인 실패 - 현재 노드 기준으로 확인합니다: {}", e.getMessage());
+      return joinLocal(roomId, userId, sessionId, maxUsers);
+    }
+
+    if (admitted) {
+      addLocal(roomId, userId, sessionId);
+    }
+    return admitted;
+  }
+
+  /** 세션을 채팅방 접속자에서 제거 */
+  public void leave(String roomId, UUID userId, String sessionId) {
+    LocalSession session = sessions.get(sessionId);
+    if (session != null) {
+      session.rooms.remove(roomId);
+    }
+    roomUsersCache.invalidate(roomId);
+
+    execute(redis -> remove(redis, roomId, userId, sessionId));
+  }
+
+  /**
+   * 연결이 끊긴 세션을 모든 채팅방에서 제거
+   *
+   * @return 제거된 세션 정보 (현재 노드에 없는 세션이면 null)
+   */
+  public LocalSession disconnect(String sessionId) {
+    LocalSession session = sessions.remove(sessionId);
+    if (session == null || session.rooms.isEmpty()) {
+      return session;
+    }
+    session.rooms.forEach(roomUsersCache::invalidate);
+
+    execute(
+        redis -> {
+          for (String roomId : session.rooms) {
+            remove(redis, roomId, session.userId, sessionId);
+          }
+        });
+    return session;
+  }
+
+  /** 채팅방 접속자 목록 조회 (클러스터 전체) */
+  public Set<UUID> getRoomUsers(String roomId) {
+    return roomUsersCache.get(roomId, this::loadRoomUsers);
+  }
+
+  /** 사용자가 접속한 채팅방 목록 조회 (클러스터 전체) */
+  public List<String> getUserRooms(UUID userId) {
+    try {
+      Set<String> members =
+          stringRedisTemplate
+              .opsForZSet()
+              .rangeByScore(
+                  USER_KEY_PREFIX + userId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+      Set<String> rooms = new LinkedHashSet<>();
+      if (members != null) {
+        for (String member : members) {
+          rooms.add(member.substring(0, member.lastIndexOf(MEMBER_SEPARATOR)));
+        }
+      }
+      return new ArrayList<>(rooms);
+    } catch (RuntimeException e) {
+      log.warn("접속 채팅방 조회 실패 - 현재 노드 기준으로 응답합니다: {}", e.getMessage());
+      Set<String> rooms = new LinkedHashSet<>();
+      for (LocalSession session : sessions.values()) {
+        if (session.userId.equals(userId)) {
+          rooms.addAll(session.rooms);
+        }
+      }
+      return new ArrayList<>(rooms);
+    }
+  }
+
+  /** 현재 노드 세션의 만료 시각 갱신 및 만료 항목 정리 */
+  @Scheduled(fixedDelayString = "${app.chat.presence.heartbeat-interval-ms:30000}")
+  public void heartbeat() {
+    if (sessions.isEmpty()) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long expiresAt = now + ttlMillis;
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                sessions.forEach(
+                    (sessionId, session) -> {
+                      for (String roomId : session.rooms) {
+                        refresh(redis, roomId, session.userId, sessionId, expiresAt);
+                        redis.zRemRangeByScore(ROOM_KEY_PREFIX + roomId, 0, now);
+                        redis.zRemRangeByScore(USER_KEY_PREFIX + session.userId, 0, now);
+                      }
+                    });
+                return null;
+              });
+    } catch (RuntimeException e) {
+      log.warn("채팅 접속 정보 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  /** Redis 장애 시 현재 노드 세션만으로 인원 확인 후 등록 */
+  private synchronized boolean joinLocal(
+      String roomId, UUID userId, String sessionId, int maxUsers) {
+    Set<UUID> users = localRoomUsers(roomId);
+    if (!users.contains(userId) && users.size() >= maxUsers) {
+      return false;
+    }
+    addLocal(roomId, userId, sessionId);
+    return true;
+  }
+
+  private void addLocal(String roomId, UUID userId, String sessionId) {
+    LocalSession session = sessions.computeIfAbsent(sessionId, id -> new LocalSession(userId));
+    session.rooms.add(roomId);
+    roomUsersCache.invalidate(roomId);
+  }
+
+  private Set<UUID> localRoomUsers(String roomId) {
+    Set<UUID> users = new HashSet<>();
+    for (LocalSession session : sessions.values()) {
+      if (session.rooms.contains(roomId)) {
+        users.add(session.userId);
+      }
+    }
+    return users;
+  }
+
+  private Set<UUID> loadRoomUsers(String roomId) {
+    try {
+      Set<String> members =
+          stringRedisTemplate
+              .opsForZSet()
+              .rangeByScore(
+                  ROOM_KEY_PREFIX + roomId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+      if (members == null || members.isEmpty()) {
+        return Collections.emptySet();
+      }
+      Set<UUID> users = new HashSet<>();
+      for (String member : members) {
+        users.add(UUID.fromString(member.substring(0, member.indexOf(MEMBER_SEPARATOR))));
+      }
+      return Collections.unmodifiableSet(users);
+    } catch (RuntimeException e) {
+      log.warn("채팅방 접속자 조회 실패 - 현재 노드 기준으로 응답합니다: {}", e.getMessage());
+      return Collections.unmodifiableSet(localRoomUsers(roomId));
+    }
+  }
+
+  private void refresh(
+      StringRedisConnection redis, String roomId, UUID userId, String sessionId, long expiresAt) {
+    String roomKey = ROOM_KEY_PREFIX + roomId;
+    String userKey = USER_KEY_PREFIX + userId;
+    redis.zAdd(roomKey, expiresAt, userId.toString() + MEMBER_SEPARATOR + sessionId);
+    redis.zAdd(userKey, expiresAt, roomId + MEMBER_SEPARATOR + sessionId);
+    redis.pExpire(roomKey, ttlMillis);
+    redis.pExpire(userKey, ttlMillis);
+  }
+
+  private void remove(StringRedisConnection redis, String roomId, UUID userId, String sessionId) {
+    redis.zRem(ROOM_KEY_PREFIX + roomId, userId.toString() + MEMBER_SEPARATOR + sessionId);
+    redis.zRem(USER_KEY_PREFIX + userId, roomId + MEMBER_SEPARATOR + sessionId);
+  }
+
+  private void execute(Consumer<StringRedisConnection> commands) {
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                commands.accept((StringRedisConnection) connection);
+                return null;
+              });
+    } catch (RuntimeException e) {
+      log.warn("채팅 접속 정보 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 현재 노드의 WebSocket 세션 접속 정보 */
+  @Getter
+  public static final class LocalSession {
+
+    /** 사용자 ID */
+    private final UUID userId;
+
+    /** 접속 중인 채팅방 */
+    private final Set<String> rooms = ConcurrentHashMap.newKeySet();
+
+    LocalSession(UUID userId) {
+      this.userId = userId;
+    }
+  }
+}
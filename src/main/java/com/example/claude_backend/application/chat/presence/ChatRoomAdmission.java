@@ -0,0 +1,46 @@
+package com.example.claude_backend.application.chat.presence;
+
+import com.example.claude_backend.application.chat.exception.ChatRoomFullException;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 입장 확인
+ *
+ * <p>채팅방 최대 인원({@code app.chat.admission.max-users-per-room}) 안에서 세션을 접속자로 등록한다. {@code
+ * /app/chat.join}과 채팅방 구독이 모두 이 확인을 거치며, 이미 등록된 세션은 다시 확인해도 인원을 차지하지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatRoomAdmission {
+
+  private final ChatPresenceStore chatPresenceStore;
+
+  /** 채팅방 최대 인원 */
+  @Getter private final int maxUsersPerRoom;
+
+  public ChatRoomAdmission(
+      ChatPresenceStore chatPresenceStore,
+      @Value("${app.chat.admission.max-users-per-room:50}") int maxUsersPerRoom) {
+    this.chatPresenceStore = chatPresenceStore;
+    this.maxUsersPerRoom = maxUsersPerRoom;
+  }
+
+  /**
+   * 세션을 채팅방 접속자로 등록
+   *
+   * @throws ChatRoomFullException 최대 인원을 초과할 때
+   */
+  public void admit(String roomId, UUID userId, String sessionId) {
+    if (!chatPresenceStore.join(roomId, userId, sessionId, maxUsersPerRoom)) {
+      log.info("채팅방 입장 거절 - 방: {}, 사용자: {} (최대 인원 {}명)", roomId, userId, maxUsersPerRoom);
+      throw new ChatRoomFullException(roomId, maxUsersPerRoom);
+    }
+  }
+}
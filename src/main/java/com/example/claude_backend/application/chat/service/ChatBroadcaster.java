@@ -0,0 +1,119 @@
+package com.example.claude_backend.application.chat.service;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import com.example.claude_backend.application.chat.history.ChatHistoryStore;
+import com.example.claude_backend.application.chat.history.ChatMessageIdGenerator;
+import com.example.claude_backend.common.config.NodeIdentity;
+import com.example.claude_backend.infrastructure.redis.ChatMessageCodec;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 노드 간 전파
+ *
+ * <p>현재 노드의 구독자({@code /topic/room.{roomId}})에게는 {@link ChatRoomDelivery}로 바로 전달하고, Redis 채널 {@code
+ * chat.room.{roomId}}에는 {@link ChatMessageCodec} 바이너리로 발행한다. 다른 노드는 {@link #deliverRemote}로 받은 메시지를
+ * 자기 구독자에게 전달하며, 자기가 발행한 메시지는 노드 ID로 걸러 중복 전달하지 않는다.
+ *
+ * <p>모든 메시지에 {@link ChatMessageIdGenerator} ID를 부여하고, 일반 채팅 메시지는 각 노드의 {@link ChatHistoryStore}에
+ * 보관한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster {
+
+  /** Redis 채널 접두사 */
+  public static final String CHANNEL_PREFIX = "chat.room.";
+
+  /** STOMP 목적지 접두사 */
+  public static final String DESTINATION_PREFIX = "/topic/room.";
+
+  private final ChatRoomDelivery chatRoomDelivery;
+  private final RedisTemplate<byte[], byte[]> chatRedisTemplate;
+  private final ChatMessageIdGenerator idGenerator;
+  private final ChatHistoryStore chatHistoryStore;
+  private final String nodeId;
+
+  public ChatBroadcaster(
+      ChatRoomDelivery chatRoomDelivery,
+      RedisTemplate<byte[], byte[]> chatRedisTemplate,
+      ChatMessageIdGenerator idGenerator,
+      ChatHistoryStore chatHistoryStore,
+      NodeIdentity nodeIdentity) {
+    this.chatRoomDelivery = chatRoomDelivery;
+    this.chatRedisTemplate = chatRedisTemplate;
+    this.idGenerator = idGenerator;
+    this.chatHistoryStore = chatHistoryStore;
+    this.nodeId = nodeIdentity.getId();
+  }
+
+  /** 채팅방 전체(모든 노드)에 메시지 전송 (ID 부여, 일반 채팅은 히스토리에 보관) */
+  public void broadcast(ChatMessage message) {
+    message.setId(idGenerator.nextId());
+    boolean keepHistory = isHistoryMessage(message);
+    if (keepHistory) {
+      chatHistoryStore.append(message);
+    }
+    chatRoomDelivery.deliver(message);
+    publish(message, keepHistory);
+  }
+
+  /**
+   * 다른 노드가 발행한 메시지를 현재 노드 구독자에게 전달
+   *
+   * @param channel Redis 채널 ({@code chat.room.{roomId}})
+   * @param body {@link ChatMessageCodec}으로 인코딩된 메시지
+   */
+  public void deliverRemote(String channel, byte[] body) {
+    if (!channel.startsWith(CHANNEL_PREFIX)) {
+      return;
+    }
+    ChatMessageCodec.Frame frame;
+    try {
+      frame = ChatMessageCodec.decode(body);
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 채팅 메시지 형식 - 채널: {}, 원인: {}", channel, e.getMessage());
+      return;
+    }
+    if (nodeId.equals(frame.getOrigin())) {
+      return;
+    }
+    ChatMessage message = frame.getMessage();
+    if (isHistoryMessage(message)) {
+      chatHistoryStore.append(message);
+    }
+    chatRoomDelivery.deliver(message);
+  }
+
+  private boolean isHistoryMessage(ChatMessage message) {
+    return message.getType() == null || message.getType() == ChatMessage.MessageType.CHAT;
+  }
+
+  /** Redis 발행 (히스토리 저장과 한 번의 파이프라인으로 전송, 저장 후 발행) */
+  private void publish(ChatMessage message, boolean keepHistory) {
+    byte[] channel = (CHANNEL_PREFIX + message.getRoomId()).getBytes(StandardCharsets.UTF_8);
+    byte[] encoded = ChatMessageCodec.encode(nodeId, message);
+    try {
+      chatRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                if (keepHistory) {
+                  byte[] key = ChatHistoryStore.redisKey(message.getRoomId());
+                  connection.listCommands().lPush(key, encoded);
+                  connection.listCommands().lTrim(key, 0, chatHistoryStore.getCapacity() - 1);
+                }
+                connection.publish(channel, encoded);
+                return null;
+              });
+    } catch (RuntimeException e) {
+      // 현재 노드 구독자에게는 이미 전달됨
+      log.warn("채팅 메시지 Redis 발행 실패 - 방: {}, 원인: {}", message.getRoomId(), e.getMessage());
+    }
+  }
+}
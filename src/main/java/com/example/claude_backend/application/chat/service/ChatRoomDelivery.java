@@ -0,0 +1,182 @@
+package com.example.claude_backend.application.chat.service;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import com.example.claude_backend.common.config.SchedulingConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 현재 노드 구독자에게 채팅 메시지 전달 ({@code /topic/room.{roomId}})
+ *
+ * <p>채팅방의 초당 메시지 수가 {@code threshold-per-second}를 넘으면 묶음 전송으로 바뀐다. 묶음 전송 중에는 {@code window-ms} 동안
+ * 들어온 메시지를 모아 JSON 배열 하나로 보내므로(클라이언트는 본문이 배열이면 묶음으로 처리) 구독자별 프레임 수가 줄어든다. 초당 메시지 수가 기준의 절반 아래로 내려가면
+ * 다시 한 건씩 보낸다. 전환 중에도 메시지 순서는 유지된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatRoomDelivery {
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final TaskScheduler taskScheduler;
+  private final boolean batchingEnabled;
+  private final int thresholdPerSecond;
+  private final Duration window;
+  private final int maxBatchSize;
+  private final LoadingCache<String, RoomState> rooms;
+  private final Counter batchedFrameCounter;
+  private final DistributionSummary batchSizeSummary;
+
+  public ChatRoomDelivery(
+      SimpMessagingTemplate messagingTemplate,
+      ObjectMapper objectMapper,
+      @Qualifier(SchedulingConfig.APPLICATION_TASK_SCHEDULER) TaskScheduler taskScheduler,
+      MeterRegistry meterRegistry,
+      @Value("${app.chat.batching.enabled:true}") boolean batchingEnabled,
+      @Value("${app.chat.batching.threshold-per-second:20}") int thresholdPerSecond,
+      @Value("${app.chat.batching.window-ms:50}") long windowMillis,
+      @Value("${app.chat.batching.max-batch-size:100}") int maxBatchSize) {
+    this.messagingTemplate = messagingTemplate;
+    this.objectMapper = objectMapper;
+    this.taskScheduler = taskScheduler;
+    this.batchingEnabled = batchingEnabled;
+    this.thresholdPerSecond = thresholdPerSecond;
+    this.window = Duration.ofMillis(windowMillis);
+    this.maxBatchSize = maxBatchSize;
+    this.rooms =
+        Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build(RoomState::new);
+    this.batchedFrameCounter = meterRegistry.counter("chat.delivery.batched.frames");
+    this.batchSizeSummary = meterRegistry.summary("chat.delivery.batch.size");
+  }
+
+  /** 채팅방 구독자에게 메시지 전달 (묶음 전송 중이면 다음 묶음에 추가) */
+  public void deliver(ChatMessage message) {
+    if (!batchingEnabled) {
+      send(message.getRoomId(), message);
+      return;
+    }
+
+    RoomState room = rooms.get(message.getRoomId());
+    boolean scheduleFlush;
+    synchronized (room) {
+      room.countMessage(System.currentTimeMillis());
+      if (!room.batching && room.pending.isEmpty()) {
+        // 한 건씩 전송 (모니터를 잡은 채 전송해 순서를 보장)
+        send(room.roomId, message);
+        return;
+      }
+      room.pending.add(message);
+      if (room.pending.size() >= maxBatchSize) {
+        flush(room);
+        return;
+      }
+      scheduleFlush = !room.flushScheduled;
+      room.flushScheduled = true;
+    }
+    if (scheduleFlush) {
+      taskScheduler.schedule(() -> flushScheduled(room), Instant.now().plus(window));
+    }
+  }
+
+  private void flushScheduled(RoomState room) {
+    synchronized (room) {
+      room.flushScheduled = false;
+      flush(room);
+    }
+  }
+
+  /** 모인 메시지 전송 (room 모니터 안에서 호출) */
+  private void flush(RoomState room) {
+    if (room.pending.isEmpty()) {
+      return;
+    }
+    List<ChatMessage> batch = room.pending;
+    room.pending = new ArrayList<>();
+    try {
+      if (batch.size() == 1) {
+        send(room.roomId, batch.get(0));
+      } else {
+        send(room.roomId, batch);
+        batchedFrameCounter.increment();
+        batchSizeSummary.record(batch.size());
+      }
+    } catch (RuntimeException e) {
+      log.warn("채팅 메시지 묶음 전송 실패 - 방: {}, 원인: {}", room.roomId, e.getMessage());
+    }
+  }
+
+  private void send(String roomId, Object payload) {
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("채팅 메시지를 직렬화할 수 없습니다.", e);
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    messagingTemplate.send(
+        ChatBroadcaster.DESTINATION_PREFIX + roomId,
+        MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+  }
+
+  /** 채팅방별 전송 상태 (모든 필드는 해당 객체 모니터 안에서 접근) */
+  private final class RoomState {
+
+    private final String roomId;
+    private List<ChatMessage> pending = new ArrayList<>();
+    private boolean batching;
+    private boolean flushScheduled;
+    private long windowStart;
+    private int windowCount;
+
+    private RoomState(String roomId) {
+      this.roomId = roomId;
+    }
+
+    /** 1초 단위로 메시지 수를 세고, 구간이 끝날 때 묶음 전송 종료 여부를 정한다 */
+    private void countMessage(long now) {
+      long elapsed = now - windowStart;
+      if (elapsed >= 1000) {
+        // 직전 1초 구간의 메시지 수 (그 사이 메시지가 없던 구간이 있으면 0)
+        int lastCount = elapsed < 2000 ? windowCount : 0;
+        if (batching && lastCount * 2 <= thresholdPerSecond) {
+          batching = false;
+          log.debug("채팅방 묶음 전송 종료 - 방: {}", roomId);
+        }
+        windowStart = now;
+        windowCount = 0;
+      }
+      windowCount++;
+      if (!batching && windowCount > thresholdPerSecond) {
+        batching = true;
+        log.debug("채팅방 묶음 전송 시작 - 방: {}", roomId);
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.claude_backend.application.chat.service;
 
+import com.example.claude_backend.application.chat.dto.ChatHistoryResponse;
 import com.example.claude_backend.application.chat.dto.ChatMessage;
 import com.example.claude_backend.application.chat.dto.ChatRoomInfo;
 import java.util.List;
@@ -26,18 +27,30 @@ public interface ChatService {
    *
    * @param roomId 채팅방 ID
    * @param userId 사용자 ID
+   * @param sessionId WebSocket 세션 ID
    * @return 입장 메시지
+   * @throws com.example.claude_backend.application.chat.exception.ChatRoomFullException 최대 인원을 초과할
+   *     때
    */
-  ChatMessage joinRoom(String roomId, UUID userId);
+  ChatMessage joinRoom(String roomId, UUID userId, String sessionId);
 
   /**
    * 채팅방 퇴장
    *
    * @param roomId 채팅방 ID
    * @param userId 사용자 ID
+   * @param sessionId WebSocket 세션 ID
    * @return 퇴장 메시지
    */
-  ChatMessage leaveRoom(String roomId, UUID userId);
+  ChatMessage leaveRoom(String roomId, UUID userId, String sessionId);
+
+  /**
+   * WebSocket 연결 종료 처리 (세션이 접속해 있던 모든 채팅방에서 퇴장)
+   *
+   * @param sessionId WebSocket 세션 ID
+   * @return 퇴장 메시지 목록
+   */
+  List<ChatMessage> disconnect(String sessionId);
 
   /**
    * 채팅방 정보 조회
@@ -54,4 +67,14 @@ public interface ChatService {
    * @return 채팅방 목록
    */
   List<String> getUserRooms(UUID userId);
+
+  /**
+   * 채팅방 최근 메시지 조회 (메모리 히스토리, 최신 메시지부터 이전 방향으로 페이지 조회)
+   *
+   * @param roomId 채팅방 ID
+   * @param before 이 ID보다 이전 메시지만 조회 (null이면 가장 최근부터)
+   * @param size 최대 개수
+   * @return 메시지 히스토리
+   */
+  ChatHistoryResponse getMessages(String roomId, Long before, int size);
 }
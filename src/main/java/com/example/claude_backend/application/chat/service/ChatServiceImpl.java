@@ -1,21 +1,27 @@
 package com.example.claude_backend.application.chat.service;
 
+import com.example.claude_backend.application.chat.dto.ChatHistoryResponse;
 import com.example.claude_backend.application.chat.dto.ChatMessage;
 import com.example.claude_backend.application.chat.dto.ChatRoomInfo;
-import com.example.claude_backend.application.user.service.UserService;
-import com.example.claude_backend.domain.user.entity.User;
+import com.example.claude_backend.application.chat.history.ChatHistoryStore;
+import com.example.claude_backend.application.chat.identity.ChatSenderIdentity;
+import com.example.claude_backend.application.chat.identity.ChatSenderIdentityStore;
+import com.example.claude_backend.application.chat.presence.ChatPresenceStore;
+import com.example.claude_backend.application.chat.presence.ChatRoomAdmission;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * 채팅 서비스 구현체 Redis Pub/Sub을 사용한 채팅 기능 구현
  *
+ * <p>채팅방 접속자는 {@link ChatPresenceStore}(Redis)에 세션 단위로 저장되어 모든 노드에서 같은 값으로 조회된다. 입장은 채팅방 최대
+ * 인원({@code app.chat.admission.max-users-per-room}) 안에서만 허용한다({@link ChatRoomAdmission}, 채팅방 구독도 같은
+ * 확인을 거침).
+ *
  * @author AI Assistant
  * @since 2025-01-20
  */
@@ -24,25 +30,28 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
-  private final RedisTemplate<String, Object> redisTemplate;
-  private final RedisMessageListenerContainer redisMessageListenerContainer;
-  private final UserService userService;
+  private final ChatBroadcaster chatBroadcaster;
+  private final ChatSenderIdentityStore chatSenderIdentityStore;
 
-  // 채팅방별 접속자 관리 (메모리 기반, Redis 대신 성능 최적화)
-  private final Map<String, Set<UUID>> roomUsers = new ConcurrentHashMap<>();
+  private final ChatPresenceStore chatPresenceStore;
+  private final ChatRoomAdmission chatRoomAdmission;
+  private final ChatHistoryStore chatHistoryStore;
 
-  // 사용자별 접속 채팅방 관리
-  private final Map<UUID, Set<String>> userRooms = new ConcurrentHashMap<>();
+  /** 히스토리 한 번에 조회할 수 있는 최대 메시지 수 */
+  @Value("${app.chat.history.max-page-size:100}")
+  private int maxPageSize;
 
   /** 채팅 메시지 전송 */
   @Override
   public ChatMessage sendMessage(ChatMessage message) {
-    // 메시지 타임스탬프 설정
+    // 발신자 정보와 타임스탬프는 서버에서 설정 (클라이언트 값은 사용하지 않음)
+    ChatSenderIdentity sender = chatSenderIdentityStore.get(message.getSenderId());
+    message.setSenderNickname(sender.getNickname());
+    message.setSenderCharacterCode(sender.getCharacterCode());
     message.setTimestamp(LocalDateTime.now());
 
-    // Redis Pub/Sub으로 메시지 브로드캐스트
-    String topic = "chat.room." + message.getRoomId();
-    redisTemplate.convertAndSend(topic, message);
+    // 현재 노드 구독자 전달 + Redis Pub/Sub으로 다른 노드에 브로드캐스트
+    chatBroadcaster.broadcast(message);
 
     log.debug(
         "채팅 메시지 전송 - 방: {}, 발신자: {}, 내용: {}",
@@ -55,13 +64,12 @@ public class ChatServiceImpl implements ChatService {
 
   /** 채팅방 입장 */
   @Override
-  public ChatMessage joinRoom(String roomId, UUID userId) {
-    // 사용자 정보 조회
-    User user = userService.getUserEntityById(userId);
+  public ChatMessage joinRoom(String roomId, UUID userId, String sessionId) {
+    // 발신자 정보 조회 (접속 중이면 DB 조회 없음)
+    ChatSenderIdentity sender = chatSenderIdentityStore.get(userId);
 
-    // 채팅방 접속자 목록에 추가
-    roomUsers.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(userId);
-    userRooms.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(roomId);
+    // 채팅방 접속자 목록에 추가 (최대 인원 초과 시 거절)
+    chatRoomAdmission.admit(roomId, userId, sessionId);
 
     // 입장 메시지 생성
     ChatMessage joinMessage =
@@ -69,44 +77,51 @@ public class ChatServiceImpl implements ChatService {
             .type(ChatMessage.MessageType.JOIN)
             .roomId(roomId)
             .senderId(userId)
-            .senderNickname(user.getNickname())
-            .senderCharacterCode(getUserCharacterCode(user))
-            .content(user.getNickname() + "님이 입장하셨습니다.")
+            .senderNickname(sender.getNickname())
+            .senderCharacterCode(sender.getCharacterCode())
+            .content(sender.getNickname() + "님이 입장하셨습니다.")
             .timestamp(LocalDateTime.now())
             .build();
 
-    // Redis Pub/Sub으로 입장 메시지 브로드캐스트
-    String topic = "chat.room." + roomId;
-    redisTemplate.convertAndSend(topic, joinMessage);
+    // 현재 노드 구독자 전달 + Redis Pub/Sub으로 다른 노드에 입장 메시지 브로드캐스트
+    chatBroadcaster.broadcast(joinMessage);
 
-    log.info("채팅방 입장 - 방: {}, 사용자: {}", roomId, user.getNickname());
+    log.info("채팅방 입장 - 방: {}, 사용자: {}", roomId, sender.getNickname());
 
     return joinMessage;
   }
 
   /** 채팅방 퇴장 */
   @Override
-  public ChatMessage leaveRoom(String roomId, UUID userId) {
-    // 사용자 정보 조회
-    User user = userService.getUserEntityById(userId);
-
+  public ChatMessage leaveRoom(String roomId, UUID userId, String sessionId) {
     // 채팅방 접속자 목록에서 제거
-    Set<UUID> users = roomUsers.get(roomId);
-    if (users != null) {
-      users.remove(userId);
-      if (users.isEmpty()) {
-        roomUsers.remove(roomId);
-      }
+    chatPresenceStore.leave(roomId, userId, sessionId);
+
+    ChatMessage leaveMessage = broadcastLeave(roomId, userId);
+    log.info("채팅방 퇴장 - 방: {}, 사용자: {}", roomId, leaveMessage.getSenderNickname());
+    return leaveMessage;
+  }
+
+  /** WebSocket 연결 종료 처리 */
+  @Override
+  public List<ChatMessage> disconnect(String sessionId) {
+    ChatPresenceStore.LocalSession session = chatPresenceStore.disconnect(sessionId);
+    if (session == null || session.getRooms().isEmpty()) {
+      return Collections.emptyList();
     }
 
-    // 사용자 접속 채팅방 목록에서 제거
-    Set<String> rooms = userRooms.get(userId);
-    if (rooms != null) {
-      rooms.remove(roomId);
-      if (rooms.isEmpty()) {
-        userRooms.remove(userId);
-      }
+    List<ChatMessage> leaveMessages = new ArrayList<>();
+    for (String roomId : session.getRooms()) {
+      leaveMessages.add(broadcastLeave(roomId, session.getUserId()));
     }
+    log.info("연결 종료 퇴장 - 사용자: {}, 방: {}", session.getUserId(), session.getRooms());
+    return leaveMessages;
+  }
+
+  /** 퇴장 메시지 생성 및 브로드캐스트 */
+  private ChatMessage broadcastLeave(String roomId, UUID userId) {
+    // 발신자 정보 조회 (접속 중이면 DB 조회 없음)
+    ChatSenderIdentity sender = chatSenderIdentityStore.get(userId);
 
     // 퇴장 메시지 생성
     ChatMessage leaveMessage =
@@ -114,17 +129,14 @@ public class ChatServiceImpl implements ChatService {
             .type(ChatMessage.MessageType.LEAVE)
             .roomId(roomId)
             .senderId(userId)
-            .senderNickname(user.getNickname())
-            .senderCharacterCode(getUserCharacterCode(user))
-            .content(user.getNickname() + "님이 퇴장하셨습니다.")
+            .senderNickname(sender.getNickname())
+            .senderCharacterCode(sender.getCharacterCode())
+            .content(sender.getNickname() + "님이 퇴장하셨습니다.")
             .timestamp(LocalDateTime.now())
             .build();
 
-    // Redis Pub/Sub으로 퇴장 메시지 브로드캐스트
-    String topic = "chat.room." + roomId;
-    redisTemplate.convertAndSend(topic, leaveMessage);
-
-    log.info("채팅방 퇴장 - 방: {}, 사용자: {}", roomId, user.getNickname());
+    // 현재 노드 구독자 전달 + Redis Pub/Sub으로 다른 노드에 퇴장 메시지 브로드캐스트
+    chatBroadcaster.broadcast(leaveMessage);
 
     return leaveMessage;
   }
@@ -132,29 +144,39 @@ public class ChatServiceImpl implements ChatService {
   /** 채팅방 정보 조회 */
   @Override
   public ChatRoomInfo getRoomInfo(String roomId) {
-    Set<UUID> users = roomUsers.getOrDefault(roomId, Collections.emptySet());
+    Set<UUID> users = chatPresenceStore.getRoomUsers(roomId);
 
     return ChatRoomInfo.builder()
         .roomId(roomId)
         .roomName("채팅방 " + roomId)
         .currentUserCount(users.size())
         .connectedUsers(new HashSet<>(users))
-        .maxUserCount(50) // 최대 50명
+        .maxUserCount(chatRoomAdmission.getMaxUsersPerRoom())
         .build();
   }
 
   /** 사용자가 접속한 채팅방 목록 조회 */
   @Override
   public List<String> getUserRooms(UUID userId) {
-    Set<String> rooms = userRooms.getOrDefault(userId, Collections.emptySet());
-    return new ArrayList<>(rooms);
+    return chatPresenceStore.getUserRooms(userId);
   }
 
-  /** 사용자의 현재 캐릭터 코드 조회 */
-  private String getUserCharacterCode(User user) {
-    if (user.getProfile() != null && user.getProfile().getCurrentCharacterCode() != null) {
-      return user.getProfile().getCurrentCharacterCode();
+  /** 채팅방 최근 메시지 조회 */
+  @Override
+  public ChatHistoryResponse getMessages(String roomId, Long before, int size) {
+    int limit = Math.max(1, Math.min(size, maxPageSize));
+
+    // 한 개 더 조회해 이전 메시지가 남았는지 확인
+    List<ChatMessage> messages = chatHistoryStore.getMessages(roomId, before, limit + 1);
+    boolean hasMore = messages.size() > limit;
+    if (hasMore) {
+      messages = messages.subList(1, messages.size());
     }
-    return "001"; // 기본 캐릭터
+
+    return ChatHistoryResponse.builder()
+        .messages(messages)
+        .nextCursor(hasMore ? messages.get(0).getId() : null)
+        .hasMore(hasMore)
+        .build();
   }
 }
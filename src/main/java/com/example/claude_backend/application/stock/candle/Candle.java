@@ -0,0 +1,44 @@
+package com.example.claude_backend.application.stock.candle;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 봉 (불변)
+ *
+ * <p>가격은 1/100원 단위 long이다. DB에 반영할 때의 거래량은 직전 반영 이후 증가분이며, 같은 봉의 행에 더해진다. 시가/종가는 첫/마지막 체결 시각으로 정하므로
+ * 틱이 늦게 들어와도(재전송, 여러 노드) 바뀌지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Builder(toBuilder = true)
+public class Candle {
+  private final String ticker;
+  private final CandleInterval interval;
+  private final LocalDateTime bucketStart; // 봉 시작 시각
+  private final long open; // 시가
+  private final long high; // 고가
+  private final long low; // 저가
+  private final long close; // 종가
+  private final long volume; // 거래량
+  private final LocalDateTime openedAt; // 첫 체결 시각 (시가 기준)
+  private final LocalDateTime closedAt; // 마지막 체결 시각 (종가 기준)
+
+  /** 같은 봉의 이후 반영분을 합친 봉 (시가는 더 이른 체결, 종가는 더 늦은 체결 기준, 같으면 이후 반영분) */
+  Candle merge(Candle later) {
+    boolean laterOpen = later.openedAt.isBefore(openedAt);
+    boolean laterClose = !later.closedAt.isBefore(closedAt);
+    return toBuilder()
+        .open(laterOpen ? later.open : open)
+        .openedAt(laterOpen ? later.openedAt : openedAt)
+        .high(Math.max(high, later.high))
+        .low(Math.min(low, later.low))
+        .close(laterClose ? later.close : close)
+        .closedAt(laterClose ? later.closedAt : closedAt)
+        .volume(volume + later.volume)
+        .build();
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.claude_backend.application.stock.candle;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 봉 주기
+ *
+ * <p>봉 시각은 체결 틱의 거래일/체결 시각(거래소 현지 시각) 기준 구간 시작 시각이다. 일봉은 거래일 0시다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+public enum CandleInterval {
+  MINUTE_1("1m", 1),
+  MINUTE_5("5m", 5),
+  HOUR_1("1h", 60),
+  DAY_1("1d", 1440);
+
+  private final String code;
+  private final int minutes;
+
+  CandleInterval(String code, int minutes) {
+    this.code = code;
+    this.minutes = minutes;
+  }
+
+  /** API 표기 (1m, 5m, 1h, 1d) */
+  public String getCode() {
+    return code;
+  }
+
+  /** 주기 길이 (분, stock_candles.period 값) */
+  public int getMinutes() {
+    return minutes;
+  }
+
+  public Duration getDuration() {
+    return Duration.ofMinutes(minutes);
+  }
+
+  /** 시각이 속한 봉의 시작 시각 */
+  public LocalDateTime bucketStart(LocalDateTime time) {
+    LocalDateTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+    return switch (this) {
+      case MINUTE_1 -> minute;
+      case MINUTE_5 -> minute.minusMinutes(minute.getMinute() % 5);
+      case HOUR_1 -> time.truncatedTo(ChronoUnit.HOURS);
+      case DAY_1 -> time.truncatedTo(ChronoUnit.DAYS);
+    };
+  }
+
+  /**
+   * API 표기로 주기 조회
+   *
+   * @throws IllegalArgumentException 지원하지 않는 주기일 때
+   */
+  public static CandleInterval fromCode(String code) {
+    for (CandleInterval interval : values()) {
+      if (interval.code.equalsIgnoreCase(code)) {
+        return interval;
+      }
+    }
+    throw new IllegalArgumentException("지원하지 않는 봉 주기입니다: " + code + " (1m, 5m, 1h, 1d)");
+  }
+}
@@ -0,0 +1,267 @@
+package com.example.claude_backend.application.stock.candle;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 한 주기의 최근 봉 링 버퍼 (가변 객체)
+ *
+ * <p>최근 {@code capacity}개 봉을 시각순으로 보관한다. 커버 시작 시각({@code coveredFrom}) 이후의 봉은 모두 링에 있으므로 그 구간은 DB를
+ * 조회하지 않는다. 가장 오래된 봉이 밀려나면 커버 시작 시각도 함께 올라가고, 그보다 이전 봉에 들어온 틱은 링을 거치지 않고 DB 반영분으로만 돌려준다.
+ *
+ * <p>봉마다 DB에 반영된 거래량을 기억해 반영할 때는 증가분만 내보낸다. 시가/종가는 첫/마지막 체결 시각 기준이라 늦게 들어온 이전 시각의 틱은 고가/저가/거래량에만
+ * 반영된다. 모든 메서드는 객체 단위로 동기화된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+final class CandleSeries {
+
+  private final String ticker;
+  private final CandleInterval interval;
+
+  // 슬롯별 값 (시각은 현지 시각을 UTC로 간주한 epoch 초)
+  private final long[] buckets;
+  private final long[] open;
+  private final long[] high;
+  private final long[] low;
+  private final long[] close;
+  private final long[] openedAt; // 첫 체결 시각 (epoch 밀리초)
+  private final long[] closedAt; // 마지막 체결 시각 (epoch 밀리초)
+  private final long[] volume;
+  private final long[] flushedVolume;
+  private final boolean[] dirty;
+
+  private int start;
+  private int size;
+  private long coveredFrom;
+
+  CandleSeries(String ticker, CandleInterval interval, int capacity, LocalDateTime coveredFrom) {
+    this.ticker = ticker;
+    this.interval = interval;
+    this.buckets = new long[capacity];
+    this.open = new long[capacity];
+    this.high = new long[capacity];
+    this.low = new long[capacity];
+    this.close = new long[capacity];
+    this.openedAt = new long[capacity];
+    this.closedAt = new long[capacity];
+    this.volume = new long[capacity];
+    this.flushedVolume = new long[capacity];
+    this.dirty = new boolean[capacity];
+    this.coveredFrom = toEpochSecond(coveredFrom);
+  }
+
+  /**
+   * DB에 저장된 봉으로 채움 (생성 직후, 시각 오름차순)
+   *
+   * @param candles 커버 시작 시각 이후의 봉 (용량 이하)
+   */
+  synchronized void load(List<Candle> candles) {
+    for (Candle candle : candles) {
+      int slot = slot(size++);
+      buckets[slot] = toEpochSecond(candle.getBucketStart());
+      open[slot] = candle.getOpen();
+      high[slot] = candle.getHigh();
+      low[slot] = candle.getLow();
+      close[slot] = candle.getClose();
+      openedAt[slot] = toEpochMilli(candle.getOpenedAt());
+      closedAt[slot] = toEpochMilli(candle.getClosedAt());
+      volume[slot] = candle.getVolume();
+      flushedVolume[slot] = candle.getVolume();
+      dirty[slot] = false;
+    }
+  }
+
+  /**
+   * 체결 틱 반영
+   *
+   * @param tradedAt 체결 시각
+   * @param price 체결가 (1/100원 단위)
+   * @param tickVolume 체결 수량
+   * @return 링 밖에서 DB에 반영해야 할 봉 (밀려난 미반영 봉 또는 커버 이전 구간의 틱, 없으면 null)
+   */
+  synchronized Candle apply(LocalDateTime tradedAt, long price, long tickVolume) {
+    LocalDateTime bucketStart = interval.bucketStart(tradedAt);
+    long bucket = toEpochSecond(bucketStart);
+    long tradedAtMilli = toEpochMilli(tradedAt);
+    if (bucket < coveredFrom) {
+      return single(bucketStart, tradedAt, price, tickVolume);
+    }
+
+    // 대부분 마지막 봉이거나 그 다음 봉
+    int position = size;
+    while (position > 0 && buckets[slot(position - 1)] > bucket) {
+      position--;
+    }
+    if (position > 0 && buckets[slot(position - 1)] == bucket) {
+      int slot = slot(position - 1);
+      high[slot] = Math.max(high[slot], price);
+      low[slot] = Math.min(low[slot], price);
+      if (tradedAtMilli < openedAt[slot]) {
+        open[slot] = price;
+        openedAt[slot] = tradedAtMilli;
+      }
+      if (tradedAtMilli >= closedAt[slot]) {
+        close[slot] = price;
+        closedAt[slot] = tradedAtMilli;
+      }
+      volume[slot] += tickVolume;
+      dirty[slot] = true;
+      return null;
+    }
+
+    Candle evicted = null;
+    if (size == buckets.length) {
+      if (position == 0) {
+        return single(bucketStart, tradedAt, price, tickVolume);
+      }
+      // 가장 오래된 봉을 밀어내고 그 이후만 커버
+      evicted = takeIfDirty(start);
+      coveredFrom = buckets[start] + 1;
+      start = slot(1);
+      size--;
+      position--;
+    }
+    for (int i = size; i > position; i--) {
+      copy(slot(i - 1), slot(i));
+    }
+    int slot = slot(position);
+    buckets[slot] = bucket;
+    open[slot] = high[slot] = low[slot] = close[slot] = price;
+    openedAt[slot] = closedAt[slot] = tradedAtMilli;
+    volume[slot] = tickVolume;
+    flushedVolume[slot] = 0;
+    dirty[slot] = true;
+    size++;
+    return evicted;
+  }
+
+  /** 마지막 반영 이후 바뀐 봉을 반영분으로 추가 (거래량은 증가분) */
+  synchronized void drainDirty(List<Candle> out) {
+    for (int i = 0; i < size; i++) {
+      Candle candle = takeIfDirty(slot(i));
+      if (candle != null) {
+        out.add(candle);
+      }
+    }
+  }
+
+  /** 밀려날 때 남은 미반영분 전부 */
+  synchronized List<Candle> drainAll() {
+    List<Candle> out = new ArrayList<>();
+    drainDirty(out);
+    return out;
+  }
+
+  /**
+   * 구간 조회
+   *
+   * @param from 시작 봉 시각 (포함)
+   * @param to 끝 봉 시각 (포함)
+   * @return 커버 시작 시각과 링에 있는 구간 내 봉 (시각 오름차순, 거래량은 누적값)
+   */
+  synchronized Slice slice(LocalDateTime from, LocalDateTime to) {
+    long fromSecond = toEpochSecond(from);
+    long toSecond = toEpochSecond(to);
+    List<Candle> candles = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      int slot = slot(i);
+      if (buckets[slot] >= fromSecond && buckets[slot] <= toSecond) {
+        candles.add(candle(slot, volume[slot]));
+      }
+    }
+    return new Slice(toLocalDateTime(coveredFrom), candles);
+  }
+
+  /** 링 조회 결과 */
+  @Getter
+  @RequiredArgsConstructor
+  static final class Slice {
+
+    /** 이 시각 이후의 봉은 모두 링에 있음 */
+    private final LocalDateTime coveredFrom;
+
+    /** 구간 내 봉 (시각 오름차순) */
+    private final List<Candle> candles;
+  }
+
+  private Candle takeIfDirty(int slot) {
+    if (!dirty[slot]) {
+      return null;
+    }
+    Candle candle = candle(slot, volume[slot] - flushedVolume[slot]);
+    flushedVolume[slot] = volume[slot];
+    dirty[slot] = false;
+    return candle;
+  }
+
+  private Candle candle(int slot, long candleVolume) {
+    return Candle.builder()
+        .ticker(ticker)
+        .interval(interval)
+        .bucketStart(toLocalDateTime(buckets[slot]))
+        .open(open[slot])
+        .high(high[slot])
+        .low(low[slot])
+        .close(close[slot])
+        .volume(candleVolume)
+        .openedAt(toLocalDateTimeMilli(openedAt[slot]))
+        .closedAt(toLocalDateTimeMilli(closedAt[slot]))
+        .build();
+  }
+
+  private Candle single(
+      LocalDateTime bucketStart, LocalDateTime tradedAt, long price, long tickVolume) {
+    return Candle.builder()
+        .ticker(ticker)
+        .interval(interval)
+        .bucketStart(bucketStart)
+        .open(price)
+        .high(price)
+        .low(price)
+        .close(price)
+        .volume(tickVolume)
+        .openedAt(tradedAt)
+        .closedAt(tradedAt)
+        .build();
+  }
+
+  private void copy(int from, int to) {
+    buckets[to] = buckets[from];
+    open[to] = open[from];
+    high[to] = high[from];
+    low[to] = low[from];
+    close[to] = close[from];
+    openedAt[to] = openedAt[from];
+    closedAt[to] = closedAt[from];
+    volume[to] = volume[from];
+    flushedVolume[to] = flushedVolume[from];
+    dirty[to] = dirty[from];
+  }
+
+  private int slot(int index) {
+    return (start + index) % buckets.length;
+  }
+
+  private static long toEpochSecond(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochSecond) {
+    return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+  }
+
+  private static long toEpochMilli(LocalDateTime time) {
+    return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  private static LocalDateTime toLocalDateTimeMilli(long epochMilli) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,349 @@
+package com.example.claude_backend.application.stock.candle;
+
+import com.example.claude_backend.domain.common.Money;
+import com.example.claude_backend.infrastructure.persistence.jdbc.CandleJdbcRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종목 봉(OHLCV) 저장소
+ *
+ * <p>시세 수집에서 반영된 체결 틱을 1분/5분/1시간/1일 봉에 바로 누적한다. 종목마다 주기별 최근 {@code ring-size}개 봉을 {@link
+ * CandleSeries} 링에 보관하며, 처음 체결이 들어올 때 DB의 최근 봉으로 채운다. 조회 구간 중 링이 커버하는 부분은 메모리에서, 그 이전 구간만 DB에서 읽는다.
+ *
+ * <p>바뀐 봉은 주기적으로 stock_candles에 증가분으로 UPSERT하고(한 트랜잭션), 체결 틱은 stock_ticks에 그대로 추가한다. 두 테이블 모두 거래일
+ * 단위 파티션이다. 오늘과 다음 거래일의 파티션은 주기 작업으로 미리 만들어 파티션 생성 잠금이 저장 경로에 걸리지 않게 하고, 그 밖의 거래일(지난 틱 재전송 등)은 저장
+ * 전에 한 번 만들어 본다. 실패한 거래일은 그동안 기본 파티션에 저장하고, 다음 주기 작업에서 파티션을 만들며 그 행을 옮긴다. 저장에 실패한 봉은 다음 주기에 다시
+ * 반영한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class CandleStore {
+
+  private static final CandleInterval[] INTERVALS = CandleInterval.values();
+
+  private static final Comparator<Candle> WRITE_ORDER =
+      Comparator.comparing(Candle::getTicker)
+          .thenComparingInt(candle -> candle.getInterval().getMinutes())
+          .thenComparing(Candle::getBucketStart);
+
+  private final CandleJdbcRepository candleJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int ringSize;
+  private final int maxCandles;
+  private final LoadingCache<String, CandleSeries[]> series;
+  private final BlockingQueue<StockTick> tickLog;
+  private final Set<LocalDate> partitions = ConcurrentHashMap.newKeySet(); // 생성된 파티션
+  private final Set<LocalDate> failedPartitions = ConcurrentHashMap.newKeySet(); // 주기 작업에서 재시도
+
+  // 링 밖에서 저장할 봉 (봉 키 → 합친 증가분, pending 모니터 안에서 접근)
+  private final Map<String, Candle> pending = new LinkedHashMap<>();
+
+  private final Counter droppedTickCounter;
+  private final Counter databaseQueryCounter;
+  private final Timer flushTimer;
+
+  public CandleStore(
+      CandleJdbcRepository candleJdbcRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.stock.candle.ring-size:240}") int ringSize,
+      @Value("${app.stock.candle.max-candles:1000}") int maxCandles,
+      @Value("${app.stock.candle.max-tickers:1000}") long maxTickers,
+      @Value("${app.stock.candle.idle-minutes:60}") long idleMinutes,
+      @Value("${app.stock.candle.tick-log-capacity:100000}") int tickLogCapacity) {
+    this.candleJdbcRepository = candleJdbcRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ringSize = ringSize;
+    this.maxCandles = maxCandles;
+    this.tickLog = new ArrayBlockingQueue<>(tickLogCapacity);
+    this.series =
+        Caffeine.newBuilder()
+            .maximumSize(maxTickers)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .evictionListener(
+                (String ticker, CandleSeries[] evicted, RemovalCause cause) -> {
+                  // 아직 저장하지 않은 봉은 다음 저장 주기로 넘김
+                  if (evicted != null) {
+                    for (CandleSeries candles : evicted) {
+                      candles.drainAll().forEach(this::addPending);
+                    }
+                  }
+                })
+            .build(this::load);
+
+    Gauge.builder("stock.candle.tickers", series, LoadingCache::estimatedSize)
+        .description("메모리에 봉을 보관 중인 종목 수")
+        .register(meterRegistry);
+    Gauge.builder("stock.candle.tick.log.size", tickLog, BlockingQueue::size)
+        .description("저장 대기 중인 체결 틱 수")
+        .register(meterRegistry);
+    this.droppedTickCounter = meterRegistry.counter("stock.candle.tick.dropped");
+    this.databaseQueryCounter = meterRegistry.counter("stock.candle.query.database");
+    this.flushTimer = meterRegistry.timer("stock.candle.flush");
+  }
+
+  /**
+   * 체결 틱 반영
+   *
+   * @param price 체결가
+   * @param volume 체결 수량
+   * @param tradeDate 거래일
+   * @param tradeTime 체결 시각
+   */
+  public void record(
+      String ticker, BigDecimal price, long volume, LocalDate tradeDate, LocalTime tradeTime) {
+    long units = Money.of(price).getUnits();
+    LocalDateTime tradedAt = LocalDateTime.of(tradeDate, tradeTime);
+    if (!tickLog.offer(new StockTick(ticker, tradedAt, units, volume))) {
+      droppedTickCounter.increment();
+    }
+    for (CandleSeries candles : series.get(ticker)) {
+      Candle outside = candles.apply(tradedAt, units, volume);
+      if (outside != null) {
+        addPending(outside);
+      }
+    }
+  }
+
+  /**
+   * 봉 조회
+   *
+   * @param from 시작 시각 (null이면 메모리에 보관하는 봉 수만큼 이전부터)
+   * @param to 끝 시각 (null이면 현재 시각)
+   * @return 시각 오름차순 봉 (진행 중인 봉 포함)
+   * @throws IllegalArgumentException 시작이 끝보다 늦거나 봉 수가 최대 개수를 넘을 때
+   */
+  public List<Candle> getCandles(
+      String ticker, CandleInterval interval, LocalDateTime from, LocalDateTime to) {
+    LocalDateTime last = interval.bucketStart(to != null ? to : LocalDateTime.now());
+    LocalDateTime first =
+        from != null
+            ? interval.bucketStart(from)
+            : last.minus(interval.getDuration().multipliedBy(ringSize - 1L));
+    if (first.isAfter(last)) {
+      throw new IllegalArgumentException("조회 시작 시각이 끝 시각보다 늦습니다.");
+    }
+    long count = Duration.between(first, last).toMinutes() / interval.getMinutes() + 1;
+    if (count > maxCandles) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 봉은 최대 " + maxCandles + "개입니다.");
+    }
+    LocalDateTime end = last.plus(interval.getDuration());
+
+    // 조회만으로는 링을 만들지 않음
+    CandleSeries[] tickerSeries = series.getIfPresent(ticker);
+    if (tickerSeries == null) {
+      databaseQueryCounter.increment();
+      return candleJdbcRepository.findCandles(ticker, interval, first, end, maxCandles);
+    }
+
+    CandleSeries.Slice slice = tickerSeries[interval.ordinal()].slice(first, last);
+    if (!first.isBefore(slice.getCoveredFrom())) {
+      return slice.getCandles();
+    }
+    databaseQueryCounter.increment();
+    LocalDateTime databaseEnd = end.isBefore(slice.getCoveredFrom()) ? end : slice.getCoveredFrom();
+    List<Candle> candles =
+        new ArrayList<>(
+            candleJdbcRepository.findCandles(ticker, interval, first, databaseEnd, maxCandles));
+    candles.addAll(slice.getCandles());
+    return candles;
+  }
+
+  /** 바뀐 봉과 체결 틱 저장 */
+  @Scheduled(
+      fixedDelayString = "${app.stock.candle.flush-interval-ms:1000}",
+      initialDelayString = "${app.stock.candle.flush-interval-ms:1000}")
+  public void flush() {
+    List<Candle> candles = takePending();
+    series.asMap().values().forEach(tickerSeries -> drainDirty(tickerSeries, candles));
+    List<StockTick> ticks = new ArrayList<>();
+    tickLog.drainTo(ticks);
+    if (candles.isEmpty() && ticks.isEmpty()) {
+      return;
+    }
+
+    List<Candle> merged = merge(candles);
+    createPartitions(merged, ticks);
+    long start = System.nanoTime();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> candleJdbcRepository.batchUpsertCandles(merged));
+    } catch (RuntimeException e) {
+      log.warn("봉 저장 실패 - 봉 수: {}, 원인: {}", merged.size(), e.getMessage());
+      requeue(merged);
+    }
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> candleJdbcRepository.batchInsertTicks(ticks));
+    } catch (RuntimeException e) {
+      log.warn("체결 틱 저장 실패 - 틱 수: {}, 원인: {}", ticks.size(), e.getMessage());
+      droppedTickCounter.increment(ticks.size());
+    }
+    flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    log.debug("봉 저장 완료 - 봉 수: {}, 틱 수: {}", merged.size(), ticks.size());
+  }
+
+  /** 오늘과 다음 거래일 파티션 미리 생성 (생성에 실패했던 거래일 재시도) */
+  @Scheduled(fixedDelayString = "${app.stock.candle.partition-interval-ms:3600000}")
+  public void preparePartitions() {
+    LocalDate today = LocalDate.now();
+    Set<LocalDate> dates = new TreeSet<>(failedPartitions);
+    dates.add(today);
+    dates.add(today.plusDays(1));
+    dates.forEach(this::createPartition);
+  }
+
+  /** 종료 전 마지막 저장 */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /** 종목 링 생성 (DB의 주기별 최근 봉으로 채움) */
+  private CandleSeries[] load(String ticker) {
+    LocalDateTime now = LocalDateTime.now();
+    Map<CandleInterval, LocalDateTime> since = new EnumMap<>(CandleInterval.class);
+    for (CandleInterval interval : INTERVALS) {
+      since.put(
+          interval,
+          interval.bucketStart(now).minus(interval.getDuration().multipliedBy(ringSize - 1L)));
+    }
+
+    Map<CandleInterval, List<Candle>> recent = new EnumMap<>(CandleInterval.class);
+    try {
+      for (Candle candle : candleJdbcRepository.findRecentCandles(ticker, since, ringSize)) {
+        recent.computeIfAbsent(candle.getInterval(), key -> new ArrayList<>()).add(candle);
+      }
+    } catch (RuntimeException e) {
+      // DB에 어떤 봉이 있는지 모르므로 다음 봉부터만 메모리에서 응답
+      log.warn("최근 봉 로드 실패 - 종목: {}, 원인: {}", ticker, e.getMessage());
+      CandleSeries[] empty = new CandleSeries[INTERVALS.length];
+      for (CandleInterval interval : INTERVALS) {
+        empty[interval.ordinal()] =
+            new CandleSeries(
+                ticker, interval, ringSize, interval.bucketStart(now).plus(interval.getDuration()));
+      }
+      return empty;
+    }
+
+    CandleSeries[] loaded = new CandleSeries[INTERVALS.length];
+    for (CandleInterval interval : INTERVALS) {
+      List<Candle> candles = recent.getOrDefault(interval, new ArrayList<>());
+      candles.sort(Comparator.comparing(Candle::getBucketStart));
+      // 가득 찼으면 가장 오래된 봉 이전은 DB에만 있을 수 있음
+      LocalDateTime coveredFrom =
+          candles.size() < ringSize ? since.get(interval) : candles.get(0).getBucketStart();
+      CandleSeries candleSeries = new CandleSeries(ticker, interval, ringSize, coveredFrom);
+      candleSeries.load(candles);
+      loaded[interval.ordinal()] = candleSeries;
+    }
+    return loaded;
+  }
+
+  private void drainDirty(CandleSeries[] tickerSeries, List<Candle> out) {
+    for (CandleSeries candles : tickerSeries) {
+      candles.drainDirty(out);
+    }
+  }
+
+  private void addPending(Candle candle) {
+    synchronized (pending) {
+      pending.merge(key(candle), candle, Candle::merge);
+    }
+  }
+
+  private List<Candle> takePending() {
+    synchronized (pending) {
+      List<Candle> candles = new ArrayList<>(pending.values());
+      pending.clear();
+      return candles;
+    }
+  }
+
+  /** 저장에 실패한 봉을 그 사이 쌓인 반영분보다 앞에 다시 넣음 */
+  private void requeue(List<Candle> failed) {
+    synchronized (pending) {
+      Map<String, Candle> later = new LinkedHashMap<>(pending);
+      pending.clear();
+      failed.forEach(candle -> pending.put(key(candle), candle));
+      later.forEach((key, candle) -> pending.merge(key, candle, Candle::merge));
+    }
+  }
+
+  /** 같은 봉의 반영분을 하나로 합치고 행 잠금 순서를 맞추기 위해 정렬 */
+  private static List<Candle> merge(List<Candle> candles) {
+    Map<String, Candle> merged = new LinkedHashMap<>();
+    candles.forEach(candle -> merged.merge(key(candle), candle, Candle::merge));
+    List<Candle> sorted = new ArrayList<>(merged.values());
+    sorted.sort(WRITE_ORDER);
+    return sorted;
+  }
+
+  private void createPartitions(List<Candle> candles, List<StockTick> ticks) {
+    Set<LocalDate> dates = new TreeSet<>();
+    candles.forEach(candle -> dates.add(candle.getBucketStart().toLocalDate()));
+    ticks.forEach(tick -> dates.add(tick.getTradedAt().toLocalDate()));
+    for (LocalDate date : dates) {
+      // 실패한 거래일은 저장 경로에서 반복하지 않고 주기 작업에서 재시도
+      if (!partitions.contains(date) && !failedPartitions.contains(date)) {
+        createPartition(date);
+      }
+    }
+  }
+
+  private void createPartition(LocalDate date) {
+    if (partitions.contains(date)) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> candleJdbcRepository.createDailyPartitions(date));
+      partitions.add(date);
+      failedPartitions.remove(date);
+    } catch (RuntimeException e) {
+      failedPartitions.add(date);
+      log.warn("봉/체결 틱 파티션 생성 실패 (기본 파티션에 저장) - 거래일: {}, 원인: {}", date, e.getMessage());
+    }
+  }
+
+  private static String key(Candle candle) {
+    return candle.getTicker()
+        + ':'
+        + candle.getInterval().getMinutes()
+        + ':'
+        + candle.getBucketStart();
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.claude_backend.application.stock.candle;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체결 틱 기록 (stock_ticks 행)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockTick {
+  private final String ticker;
+  private final LocalDateTime tradedAt; // 거래일 + 체결 시각
+  private final long price; // 체결가 (1/100원 단위)
+  private final long volume; // 체결 수량
+}
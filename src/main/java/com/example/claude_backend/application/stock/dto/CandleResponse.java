@@ -0,0 +1,45 @@
+package com.example.claude_backend.application.stock.dto;
+
+import com.example.claude_backend.application.stock.candle.Candle;
+import com.example.claude_backend.domain.common.Money;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 봉(OHLCV) 응답 DTO
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandleResponse {
+
+  /** 봉 시작 시각 (거래소 현지 시각) */
+  private LocalDateTime time;
+
+  private BigDecimal open;
+  private BigDecimal high;
+  private BigDecimal low;
+  private BigDecimal close;
+  private long volume;
+
+  public static CandleResponse of(Candle candle) {
+    return CandleResponse.builder()
+        .time(candle.getBucketStart())
+        .open(Money.ofUnits(candle.getOpen()).toBigDecimal())
+        .high(Money.ofUnits(candle.getHigh()).toBigDecimal())
+        .low(Money.ofUnits(candle.getLow()).toBigDecimal())
+        .close(Money.ofUnits(candle.getClose()).toBigDecimal())
+        .volume(candle.getVolume())
+        .build();
+  }
+}
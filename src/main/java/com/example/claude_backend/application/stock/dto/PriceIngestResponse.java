@@ -0,0 +1,11 @@
+package com.example.claude_backend.application.stock.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PriceIngestResponse {
+  private int accepted; // 반영된 틱 수
+  private int rejected; // 잘못되었거나 지난 거래일이라 무시된 틱 수
+}
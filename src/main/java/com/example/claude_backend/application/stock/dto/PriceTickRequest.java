@@ -0,0 +1,21 @@
+package com.example.claude_backend.application.stock.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceTickRequest {
+  private String ticker; // 종목 코드
+  private BigDecimal price; // 체결가
+  private Long volume; // 체결 수량 (없으면 0)
+  private LocalDate tradeDate; // 거래일 (없으면 오늘)
+  private LocalTime tradeTime; // 체결 시각 (없으면 현재 시각)
+}
@@ -0,0 +1,22 @@
+package com.example.claude_backend.application.stock.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업종 요약 응답 DTO
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Builder
+public class SectorSummaryResponse {
+  private String sector;
+  private int stockCount; // 종목 수
+  private double averageChangeRate; // 평균 등락률 (%)
+  private long totalVolume; // 거래량 합계
+  private List<StockResponse> topGainers; // 상승률 상위 종목
+  private List<StockResponse> topLosers; // 하락률 상위 종목
+}
@@ -0,0 +1,48 @@
+package com.example.claude_backend.application.stock.dto;
+
+import com.example.claude_backend.application.stock.listing.StockSortKey;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 종목 목록 조회 요청 (쿼리 파라미터)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockListingRequest {
+
+  /** 정렬 기준 */
+  private StockSortKey sort = StockSortKey.CHANGE_RATE;
+
+  /** 내림차순 여부 */
+  private boolean desc = true;
+
+  /** 이전 응답의 nextCursor (첫 페이지는 비움) */
+  private String cursor;
+
+  /** 페이지 크기 */
+  private int size = 50;
+
+  /** 업종 */
+  private String sector;
+
+  /** 최소 등락률 (%) */
+  private Double minChangeRate;
+
+  /** 최대 등락률 (%) */
+  private Double maxChangeRate;
+
+  /** 최소 거래량 */
+  private Long minVolume;
+
+  /** 최소 현재가 */
+  private Double minPrice;
+
+  /** 최대 현재가 */
+  private Double maxPrice;
+}
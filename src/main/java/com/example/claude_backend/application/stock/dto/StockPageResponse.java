@@ -0,0 +1,31 @@
+package com.example.claude_backend.application.stock.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 종목 목록 페이지 응답 DTO
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockPageResponse {
+
+  /** 종목 목록 (정렬 순) */
+  private List<StockResponse> stocks;
+
+  /** 다음 페이지 조회용 커서 (다음 요청의 cursor 값, 더 없으면 null) */
+  private String nextCursor;
+
+  /** 다음 페이지 존재 여부 */
+  private boolean hasMore;
+}
@@ -1,5 +1,7 @@
 package com.example.claude_backend.application.stock.dto;
 
+import com.example.claude_backend.application.stock.quote.QuoteSnapshot;
+import com.example.claude_backend.domain.stock.entity.Stock;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,4 +16,31 @@ public class StockResponse {
   private Long volume;
   private Double marketCap;
   private String sector;
+  private String industry;
+
+  /** 종목과 메모리 시세로 응답 생성 (시세가 없으면 DB에 저장된 가격 사용) */
+  public static StockResponse of(Stock stock, QuoteSnapshot quote) {
+    StockResponseBuilder builder =
+        StockResponse.builder()
+            .code(stock.getTicker())
+            .name(stock.getName())
+            .marketCap(0.0) // 상장주식수 정보가 없어 계산 불가
+            .sector(stock.getSector() != null ? stock.getSector() : "")
+            .industry(stock.getIndustry() != null ? stock.getIndustry() : "");
+
+    if (quote == null) {
+      return builder
+          .currentPrice(stock.getCurrentPrice().doubleValue())
+          .changeRate(0.0)
+          .changeAmount(0.0)
+          .volume(0L)
+          .build();
+    }
+    return builder
+        .currentPrice(quote.getLast().doubleValue())
+        .changeRate(quote.getChangeRate())
+        .changeAmount(quote.getChange().doubleValue())
+        .volume(quote.getVolume())
+        .build();
+  }
 }
@@ -0,0 +1,18 @@
+package com.example.claude_backend.application.stock.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 정보(종목 코드, 종목명) 추가/변경 이벤트
+ *
+ * <p>종목 목록을 메모리에 보관하는 컴포넌트가 커밋 후 해당 종목을 다시 읽는 데 사용한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockChangedEvent {
+  private final String ticker;
+}
@@ -0,0 +1,240 @@
+package com.example.claude_backend.application.stock.listing;
+
+import com.example.claude_backend.application.stock.dto.StockListingRequest;
+import com.example.claude_backend.application.stock.dto.StockPageResponse;
+import com.example.claude_backend.application.stock.dto.StockResponse;
+import com.example.claude_backend.application.stock.event.StockChangedEvent;
+import com.example.claude_backend.application.stock.quote.PriceBook;
+import com.example.claude_backend.application.stock.sector.SectorAggregator;
+import com.example.claude_backend.domain.stock.entity.Stock;
+import com.example.claude_backend.domain.stock.repository.StockRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 종목 목록 정렬 뷰
+ *
+ * <p>정렬 기준({@link StockSortKey})마다 (정렬 값, 종목 코드) 순서의 skip list를 유지한다. 시세가 바뀐 종목은 표시만 해 두었다가 주기마다 최신
+ * 시세로 행을 다시 만들어 각 뷰에서 교체하므로(종목당 O(log n)) 전체를 다시 정렬하지 않는다. 목록 조회는 DB를 거치지 않는다.
+ *
+ * <p>커서는 마지막으로 받은 행의 (정렬 값, 종목 코드)이며, 그 사이 해당 종목의 시세가 바뀌어도 같은 위치부터 이어서 조회한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class StockListingView {
+
+  private final StockRepository stockRepository;
+  private final PriceBook priceBook;
+  private final SectorAggregator sectorAggregator;
+  private final int maxPageSize;
+
+  private final Map<String, Stock> stocks = new ConcurrentHashMap<>();
+  // 종목 코드순 (전체 목록 전달 시 정렬 없이 순회)
+  private final Map<String, Row> rows = new ConcurrentSkipListMap<>();
+  private final Map<StockSortKey, ConcurrentSkipListSet<Row>> views =
+      new EnumMap<>(StockSortKey.class);
+  private final Set<String> changedTickers = ConcurrentHashMap.newKeySet();
+
+  public StockListingView(
+      StockRepository stockRepository,
+      PriceBook priceBook,
+      SectorAggregator sectorAggregator,
+      @Value("${app.stock.listing.max-page-size:200}") int maxPageSize) {
+    this.stockRepository = stockRepository;
+    this.priceBook = priceBook;
+    this.sectorAggregator = sectorAggregator;
+    this.maxPageSize = maxPageSize;
+    for (StockSortKey key : StockSortKey.values()) {
+      views.put(
+          key,
+          new ConcurrentSkipListSet<>(
+              Comparator.<Row>comparingDouble(row -> row.values[key.ordinal()])
+                  .thenComparing(row -> row.ticker)));
+    }
+  }
+
+  /** 시작 시 전체 종목 로드 (시세는 다음 갱신 주기에 반영) */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    try {
+      List<Stock> all = stockRepository.findAll();
+      all.forEach(this::put);
+      log.info("종목 목록 뷰 로드 완료 - 종목 수: {}", all.size());
+    } catch (RuntimeException e) {
+      log.warn("종목 목록 뷰 로드 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 종목 추가/변경 커밋 후 반영 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStockChanged(StockChangedEvent event) {
+    try {
+      stockRepository.findByTicker(event.getTicker()).ifPresent(this::put);
+    } catch (RuntimeException e) {
+      log.warn("종목 목록 뷰 갱신 실패 - 종목: {}, 원인: {}", event.getTicker(), e.getMessage());
+    }
+  }
+
+  /** 시세 변경 표시 (다음 갱신 주기에 정렬 위치 반영) */
+  public void markChanged(String ticker) {
+    changedTickers.add(ticker);
+  }
+
+  /** 변경된 종목의 행을 최신 시세로 교체 */
+  @Scheduled(fixedDelayString = "${app.stock.listing.refresh-interval-ms:500}")
+  public void refresh() {
+    for (Iterator<String> it = changedTickers.iterator(); it.hasNext(); ) {
+      String ticker = it.next();
+      it.remove();
+      Stock stock = stocks.get(ticker);
+      if (stock != null) {
+        replace(new Row(StockResponse.of(stock, priceBook.get(ticker).orElse(null))));
+      }
+    }
+    sectorAggregator.publish();
+  }
+
+  /**
+   * 목록 페이지 조회
+   *
+   * @throws IllegalArgumentException 커서 형식이 맞지 않을 때
+   */
+  public StockPageResponse page(StockListingRequest request) {
+    StockSortKey key = request.getSort() != null ? request.getSort() : StockSortKey.CHANGE_RATE;
+    int size = Math.max(1, Math.min(request.getSize(), maxPageSize));
+
+    NavigableSet<Row> view = views.get(key);
+    if (request.isDesc()) {
+      view = view.descendingSet();
+    }
+    if (request.getCursor() != null && !request.getCursor().isBlank()) {
+      view = view.tailSet(decodeCursor(key, request.getCursor()), false);
+    }
+
+    List<StockResponse> page = new ArrayList<>(size);
+    Row last = null;
+    boolean hasMore = false;
+    for (Row row : view) {
+      if (!matches(row.response, request)) {
+        continue;
+      }
+      if (page.size() == size) {
+        hasMore = true;
+        break;
+      }
+      page.add(row.response);
+      last = row;
+    }
+
+    return StockPageResponse.builder()
+        .stocks(page)
+        .nextCursor(hasMore ? encodeCursor(key, last) : null)
+        .hasMore(hasMore)
+        .build();
+  }
+
+  /** 전체 종목을 종목 코드순으로 하나씩 전달 (목록을 만들지 않음) */
+  public void forEach(Consumer<StockResponse> action) {
+    rows.values().forEach(row -> action.accept(row.response));
+  }
+
+  private void put(Stock stock) {
+    stocks.put(stock.getTicker(), stock);
+    if (!rows.containsKey(stock.getTicker())) {
+      replace(new Row(StockResponse.of(stock, null)));
+    }
+    markChanged(stock.getTicker());
+  }
+
+  /** 행 교체 (모든 정렬 뷰와 업종 집계에서 이전 행을 새 행으로) */
+  private synchronized void replace(Row row) {
+    Row previous = rows.put(row.ticker, row);
+    views.forEach(
+        (key, view) -> {
+          if (previous != null) {
+            view.remove(previous);
+          }
+          view.add(row);
+        });
+    sectorAggregator.update(previous != null ? previous.response : null, row.response);
+  }
+
+  private static boolean matches(StockResponse stock, StockListingRequest request) {
+    return (request.getSector() == null || request.getSector().equals(stock.getSector()))
+        && (request.getMinChangeRate() == null
+            || stock.getChangeRate() >= request.getMinChangeRate())
+        && (request.getMaxChangeRate() == null
+            || stock.getChangeRate() <= request.getMaxChangeRate())
+        && (request.getMinVolume() == null || stock.getVolume() >= request.getMinVolume())
+        && (request.getMinPrice() == null || stock.getCurrentPrice() >= request.getMinPrice())
+        && (request.getMaxPrice() == null || stock.getCurrentPrice() <= request.getMaxPrice());
+  }
+
+  private static String encodeCursor(StockSortKey key, Row row) {
+    String value = row.values[key.ordinal()] + ":" + row.ticker;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Row decodeCursor(StockSortKey key, String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = value.indexOf(':');
+      double[] values = new double[StockSortKey.values().length];
+      values[key.ordinal()] = Double.parseDouble(value.substring(0, separator));
+      return new Row(value.substring(separator + 1), values, null);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.", e);
+    }
+  }
+
+  /** 정렬 뷰의 행 (불변, 정렬 값은 생성 시 고정) */
+  private static final class Row {
+
+    private final String ticker;
+    private final double[] values;
+    private final StockResponse response;
+
+    private Row(StockResponse response) {
+      this(response.getCode(), sortValues(response), response);
+    }
+
+    private Row(String ticker, double[] values, StockResponse response) {
+      this.ticker = ticker;
+      this.values = values;
+      this.response = response;
+    }
+
+    private static double[] sortValues(StockResponse response) {
+      StockSortKey[] keys = StockSortKey.values();
+      double[] values = new double[keys.length];
+      for (StockSortKey key : keys) {
+        values[key.ordinal()] = key.sortValue(response);
+      }
+      return values;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.claude_backend.application.stock.listing;
+
+import com.example.claude_backend.application.stock.dto.StockResponse;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 종목 목록 정렬 기준
+ *
+ * <p>시가총액은 상장주식수 정보가 없어 계산할 수 없으므로 정렬 기준으로 제공하지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+public enum StockSortKey {
+  CHANGE_RATE(StockResponse::getChangeRate),
+  VOLUME(stock -> stock.getVolume());
+
+  private final ToDoubleFunction<StockResponse> value;
+
+  StockSortKey(ToDoubleFunction<StockResponse> value) {
+    this.value = value;
+  }
+
+  /** 정렬 값 */
+  double sortValue(StockResponse stock) {
+    return value.applyAsDouble(stock);
+  }
+}
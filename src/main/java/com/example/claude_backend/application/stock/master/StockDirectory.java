@@ -0,0 +1,92 @@
+package com.example.claude_backend.application.stock.master;
+
+import com.example.claude_backend.application.stock.event.StockChangedEvent;
+import com.example.claude_backend.domain.stock.exception.StockNotFoundException;
+import com.example.claude_backend.infrastructure.persistence.jdbc.StockJdbcRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 종목 코드 → 종목 참조 캐시 (주문 처리용)
+ *
+ * <p>종목 마스터 반영 직후 전체 종목을 한 번 읽어 둔다. 캐시에 없는 종목(다른 노드가 마스터를 반영했거나 시작 시 로드에 실패한 경우)만 DB에서 조회해 추가하고, 종목
+ * 목록을 메모리에 보관하는 다른 컴포넌트도 읽도록 {@link StockChangedEvent}를 발행한다. 조회한 트랜잭션이 커밋된 뒤에 캐시에 넣는다. stocks
+ * 테이블에는 쓰지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockDirectory {
+
+  private final StockJdbcRepository stockJdbcRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Map<String, StockRef> stocks = new ConcurrentHashMap<>();
+
+  /** 전체 종목 로드 (종목 마스터 반영 다음) */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  public void load() {
+    try {
+      stockJdbcRepository.forEachRef(stock -> stocks.put(stock.getTicker(), stock));
+      log.info("종목 참조 캐시 로드 완료 - 종목 수: {}", stocks.size());
+    } catch (RuntimeException e) {
+      log.warn("종목 참조 캐시 로드 실패 (주문 시 종목별로 조회): {}", e.getMessage());
+    }
+  }
+
+  /** 종목 마스터에 있는 종목인지 확인 (캐시에 없으면 DB에서 조회) */
+  public boolean contains(String ticker) {
+    try {
+      get(ticker);
+      return true;
+    } catch (StockNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 종목 참조 조회
+   *
+   * @throws StockNotFoundException 종목 마스터에 없는 종목일 때
+   */
+  public StockRef get(String ticker) {
+    if (ticker == null || ticker.isBlank()) {
+      throw new IllegalArgumentException("종목 코드가 필요합니다.");
+    }
+    StockRef stock = stocks.get(ticker);
+    if (stock != null) {
+      return stock;
+    }
+    StockRef found =
+        stockJdbcRepository
+            .findRef(ticker)
+            .orElseThrow(() -> StockNotFoundException.withTicker(ticker));
+    // 이벤트 리스너는 커밋 후에 실행되므로 캐시도 커밋 후에 채운다 (주문이 롤백되면 다음 조회에서 다시 발행)
+    eventPublisher.publishEvent(new StockChangedEvent(ticker));
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              stocks.putIfAbsent(ticker, found);
+            }
+          });
+    } else {
+      stocks.putIfAbsent(ticker, found);
+    }
+    return found;
+  }
+}
@@ -0,0 +1,145 @@
+package com.example.claude_backend.application.stock.master;
+
+import com.example.claude_backend.infrastructure.persistence.jdbc.StockJdbcRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종목 마스터 로더
+ *
+ * <p>시작 시 종목 마스터 파일({@code ticker,name,base_price,per,pbr}, 첫 줄은 헤더, 뒤의 세 열은 비워도 됨)을 한 줄씩 읽어 {@code
+ * batch-size}개마다 {@code INSERT ... ON CONFLICT (ticker) DO UPDATE} 배치로 stocks 테이블에 반영한다. 전체 파일을 한
+ * 트랜잭션으로 반영하며, 파일 전체를 메모리에 올리지 않는다. 종목을 읽는 다른 컴포넌트보다 먼저 실행된다.
+ *
+ * <p>주문은 stocks 테이블에 쓰지 않으므로 거래 가능한 종목은 이 파일로만 추가된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class StockMasterLoader {
+
+  private static final int MAX_TICKER_LENGTH = 20;
+  private static final int MAX_NAME_LENGTH = 100;
+
+  private final StockJdbcRepository stockJdbcRepository;
+  private final ResourceLoader resourceLoader;
+  private final TransactionTemplate transactionTemplate;
+  private final String masterFile;
+  private final int batchSize;
+
+  public StockMasterLoader(
+      StockJdbcRepository stockJdbcRepository,
+      ResourceLoader resourceLoader,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.stock.master.file:classpath:db/stock-master.csv}") String masterFile,
+      @Value("${app.stock.master.batch-size:1000}") int batchSize) {
+    this.stockJdbcRepository = stockJdbcRepository;
+    this.resourceLoader = resourceLoader;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.masterFile = masterFile;
+    this.batchSize = batchSize;
+  }
+
+  /** 종목 마스터 파일 반영 */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void load() {
+    if (masterFile.isBlank()) {
+      return;
+    }
+    Resource resource = resourceLoader.getResource(masterFile);
+    try {
+      int[] counts = transactionTemplate.execute(status -> importFile(resource));
+      log.info("종목 마스터 반영 완료 - 파일: {}, 종목 수: {}, 무시: {}", masterFile, counts[0], counts[1]);
+    } catch (UncheckedIOException e) {
+      log.warn("종목 마스터 파일을 읽을 수 없습니다: {} ({})", masterFile, e.getCause().getMessage());
+    } catch (RuntimeException e) {
+      log.warn("종목 마스터 반영 실패 - 파일: {}, 원인: {}", masterFile, e.getMessage());
+    }
+  }
+
+  /**
+   * 파일을 읽으며 배치 단위로 반영
+   *
+   * @return [반영한 줄 수, 무시한 줄 수]
+   */
+  private int[] importFile(Resource resource) {
+    int imported = 0;
+    int skipped = 0;
+    List<StockMasterRecord> batch = new ArrayList<>(batchSize);
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      reader.readLine(); // 헤더
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        StockMasterRecord record = parse(line);
+        if (record == null) {
+          skipped++;
+          continue;
+        }
+        batch.add(record);
+        if (batch.size() >= batchSize) {
+          stockJdbcRepository.batchUpsertMaster(batch);
+          imported += batch.size();
+          batch.clear();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (!batch.isEmpty()) {
+      stockJdbcRepository.batchUpsertMaster(batch);
+      imported += batch.size();
+    }
+    return new int[] {imported, skipped};
+  }
+
+  private StockMasterRecord parse(String line) {
+    String[] columns = line.split(",", -1);
+    try {
+      String ticker = columns[0].trim();
+      String name = columns[1].trim();
+      if (ticker.isEmpty()
+          || ticker.length() > MAX_TICKER_LENGTH
+          || name.isEmpty()
+          || name.length() > MAX_NAME_LENGTH) {
+        throw new IllegalArgumentException("종목 코드/종목명 형식 오류");
+      }
+      return new StockMasterRecord(
+          ticker, name, decimal(columns, 2), decimal(columns, 3), decimal(columns, 4));
+    } catch (RuntimeException e) {
+      log.warn("잘못된 종목 마스터 라인 무시: {}", line);
+      return null;
+    }
+  }
+
+  private static BigDecimal decimal(String[] columns, int index) {
+    if (columns.length <= index || columns[index].isBlank()) {
+      return null;
+    }
+    return new BigDecimal(columns[index].trim());
+  }
+}
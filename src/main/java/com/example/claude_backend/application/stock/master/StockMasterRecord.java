@@ -0,0 +1,21 @@
+package com.example.claude_backend.application.stock.master;
+
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 마스터 파일 한 줄
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockMasterRecord {
+  private final String ticker;
+  private final String name;
+  private final BigDecimal basePrice; // 기준가 (없으면 null, 기존 현재가가 있으면 사용하지 않음)
+  private final BigDecimal per; // 없으면 null (기존 값 유지)
+  private final BigDecimal pbr; // 없으면 null (기존 값 유지)
+}
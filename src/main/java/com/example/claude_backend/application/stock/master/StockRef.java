@@ -0,0 +1,20 @@
+package com.example.claude_backend.application.stock.master;
+
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 처리용 종목 참조 (불변)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockRef {
+  private final Long id;
+  private final String ticker;
+  private final String name;
+  private final BigDecimal referencePrice; // 로드 시점의 stocks.current_price (시세판에 시세가 없을 때만 사용)
+}
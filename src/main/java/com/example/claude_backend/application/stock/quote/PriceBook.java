@@ -0,0 +1,137 @@
+package com.example.claude_backend.application.stock.quote;
+
+import com.example.claude_backend.application.stock.candle.Candle;
+import com.example.claude_backend.domain.common.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 시세판
+ *
+ * <p>종목별 현재가/시가/고가/저가/거래량/등락을 메모리에 유지한다. 시세 조회는 DB를 거치지 않으며, 변경된 종목만 주기적으로 stocks 테이블에 체크포인트된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+public class PriceBook {
+
+  private final TickerQuoteTable quotes = new TickerQuoteTable();
+
+  /** 종목 시세 스냅샷 조회 */
+  public Optional<QuoteSnapshot> get(String ticker) {
+    Quote quote = quotes.get(ticker);
+    return quote == null ? Optional.empty() : Optional.of(quote.snapshot());
+  }
+
+  /** 종목 현재가 조회 (시세가 없거나 0이면 empty) */
+  public Optional<BigDecimal> lastPrice(String ticker) {
+    return get(ticker)
+        .map(QuoteSnapshot::getLast)
+        .filter(price -> price.compareTo(BigDecimal.ZERO) > 0);
+  }
+
+  /** 종목 현재가 조회 (1/100원 단위, 시세가 없으면 0) */
+  public long lastPriceUnits(String ticker) {
+    Quote quote = quotes.get(ticker);
+    return quote == null ? 0L : quote.getLast();
+  }
+
+  /**
+   * DB에 저장된 가격과 일봉으로 시세 초기화 (이미 시세가 있는 종목은 유지)
+   *
+   * <p>체크포인트에는 현재가와 체결 시각만 저장되므로, 거래일 일봉에서 시가/고가/저가/거래량을, 그 이전 일봉의 종가에서 기준가를 복원한다. 일봉이 없으면 현재가로
+   * 채운다(등락 0).
+   *
+   * @param dailyCandles 종목의 최근 일봉 (시각 내림차순)
+   */
+  public void seed(
+      String ticker,
+      BigDecimal price,
+      LocalDate tradeDate,
+      LocalTime tradeTime,
+      List<Candle> dailyCandles) {
+    if (price == null || price.signum() <= 0 || quotes.get(ticker) != null) {
+      return;
+    }
+    Candle session = null;
+    Candle previous = null;
+    if (tradeDate != null) {
+      for (Candle candle : dailyCandles) {
+        LocalDate date = candle.getBucketStart().toLocalDate();
+        if (date.equals(tradeDate)) {
+          session = candle;
+        } else if (date.isBefore(tradeDate) && previous == null) {
+          previous = candle;
+        }
+      }
+    }
+
+    long last = toUnits(price);
+    LocalTime time = tradeTime;
+    long open = last;
+    long high = last;
+    long low = last;
+    long volume = 0L;
+    if (session != null) {
+      // 봉 저장이 체크포인트보다 자주 일어나므로 일봉 종가가 더 최근일 수 있음
+      LocalTime closedAt = session.getClosedAt().toLocalTime();
+      if (time == null || closedAt.isAfter(time)) {
+        last = session.getClose();
+        time = closedAt;
+      }
+      open = session.getOpen();
+      high = Math.max(session.getHigh(), last);
+      low = Math.min(session.getLow(), last);
+      volume = session.getVolume();
+    }
+    long prevClose = previous != null ? previous.getClose() : last;
+    quotes.getOrCreate(ticker).seed(last, open, high, low, prevClose, volume, tradeDate, time);
+  }
+
+  /**
+   * 체결 틱 반영
+   *
+   * @return 반영 여부 (이전 거래일의 틱이면 false)
+   */
+  public boolean apply(
+      String ticker, BigDecimal price, long volume, LocalDate tradeDate, LocalTime tradeTime) {
+    return quotes.getOrCreate(ticker).apply(toUnits(price), volume, tradeDate, tradeTime);
+  }
+
+  /** 마지막 체크포인트 이후 변경된 종목 시세 목록 (변경 플래그 해제) */
+  public List<QuoteSnapshot> drainDirty() {
+    List<QuoteSnapshot> dirty = new ArrayList<>();
+    quotes.forEach(
+        quote -> {
+          QuoteSnapshot snapshot = quote.takeIfDirty();
+          if (snapshot != null) {
+            dirty.add(snapshot);
+          }
+        });
+    return dirty;
+  }
+
+  /** 체크포인트 실패 시 다음 주기에 다시 저장되도록 변경 표시 */
+  public void markDirty(String ticker) {
+    Quote quote = quotes.get(ticker);
+    if (quote != null) {
+      quote.markDirty();
+    }
+  }
+
+  /** 시세 보유 종목 수 */
+  public int size() {
+    return quotes.size();
+  }
+
+  /** 원 단위 가격 → 1/100원 단위 long */
+  private static long toUnits(BigDecimal price) {
+    return Money.of(price).getUnits();
+  }
+}
@@ -0,0 +1,122 @@
+package com.example.claude_backend.application.stock.quote;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 종목별 실시간 시세 (가변 객체)
+ *
+ * <p>가격은 1/100원 단위 long으로 보관한다. 틱 반영과 스냅샷 생성은 종목 단위로 동기화되며, 호출부에는 항상 {@link QuoteSnapshot}만 노출한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+final class Quote {
+
+  private final String ticker;
+
+  private long last;
+  private long open;
+  private long high;
+  private long low;
+  private long prevClose;
+  private long volume;
+  private LocalDate tradeDate;
+  private LocalTime tradeTime;
+  private boolean dirty;
+
+  Quote(String ticker) {
+    this.ticker = ticker;
+  }
+
+  String getTicker() {
+    return ticker;
+  }
+
+  synchronized long getLast() {
+    return last;
+  }
+
+  /** DB에 저장된 값으로 초기화 (체크포인트 대상 아님) */
+  synchronized void seed(
+      long price,
+      long sessionOpen,
+      long sessionHigh,
+      long sessionLow,
+      long previousClose,
+      long sessionVolume,
+      LocalDate date,
+      LocalTime time) {
+    last = price;
+    open = sessionOpen;
+    high = sessionHigh;
+    low = sessionLow;
+    prevClose = previousClose;
+    volume = sessionVolume;
+    tradeDate = date;
+    tradeTime = time;
+  }
+
+  /**
+   * 체결 틱 반영
+   *
+   * @return 반영 여부 (이전 거래일의 틱이면 무시)
+   */
+  synchronized boolean apply(long price, long tickVolume, LocalDate date, LocalTime time) {
+    if (tradeDate != null && date.isBefore(tradeDate)) {
+      return false;
+    }
+    if (tradeDate == null || date.isAfter(tradeDate)) {
+      // 거래일이 바뀌면 직전 종가를 기준가로 넘기고 일중 값 초기화
+      if (last > 0) {
+        prevClose = last;
+      }
+      open = high = low = price;
+      volume = 0;
+      tradeDate = date;
+    }
+    last = price;
+    high = Math.max(high, price);
+    low = Math.min(low, price);
+    volume += tickVolume;
+    tradeTime = time;
+    dirty = true;
+    return true;
+  }
+
+  synchronized void markDirty() {
+    dirty = true;
+  }
+
+  /** 체크포인트 이후 변경되었으면 스냅샷을 반환하고 변경 플래그 해제 */
+  synchronized QuoteSnapshot takeIfDirty() {
+    if (!dirty) {
+      return null;
+    }
+    dirty = false;
+    return snapshot();
+  }
+
+  synchronized QuoteSnapshot snapshot() {
+    long change = prevClose > 0 ? last - prevClose : 0;
+    double changeRate = prevClose > 0 ? Math.round(change * 10000.0 / prevClose) / 100.0 : 0.0;
+    return QuoteSnapshot.builder()
+        .ticker(ticker)
+        .last(toPrice(last))
+        .open(toPrice(open))
+        .high(toPrice(high))
+        .low(toPrice(low))
+        .prevClose(toPrice(prevClose))
+        .change(toPrice(change))
+        .changeRate(changeRate)
+        .volume(volume)
+        .tradeDate(tradeDate)
+        .tradeTime(tradeTime)
+        .build();
+  }
+
+  private static BigDecimal toPrice(long value) {
+    return BigDecimal.valueOf(value, 2);
+  }
+}
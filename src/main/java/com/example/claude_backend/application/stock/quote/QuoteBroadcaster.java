@@ -0,0 +1,73 @@
+package com.example.claude_backend.application.stock.quote;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * 실시간 시세 푸시
+ *
+ * <p>틱이 들어올 때마다 보내지 않고 변경된 종목만 표시해 두었다가, 주기마다 종목별 최신 시세 한 건만 {@code /topic/quotes.{ticker}}로
+ * 전송한다(latest-value-wins). 따라서 구독자 한 명이 받는 프레임 수는 종목당 주기별 최대 1건으로 제한된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteBroadcaster {
+
+  public static final String DESTINATION_PREFIX = "/topic/quotes.";
+
+  private final PriceBook priceBook;
+  private final SimpMessagingTemplate messagingTemplate;
+
+  private final Set<String> changedTickers = ConcurrentHashMap.newKeySet();
+
+  /** 시세 변경 표시 (다음 전송 주기에 최신 값 전송) */
+  public void markChanged(String ticker) {
+    changedTickers.add(ticker);
+  }
+
+  /** 새 구독자가 바로 현재 시세를 받을 수 있도록 해당 종목을 전송 대상에 추가 */
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    String destination = SimpMessageHeaderAccessor.getDestination(event.getMessage().getHeaders());
+    if (destination != null && destination.startsWith(DESTINATION_PREFIX)) {
+      markChanged(destination.substring(DESTINATION_PREFIX.length()));
+    }
+  }
+
+  /** 변경된 종목의 최신 시세 전송 */
+  @Scheduled(fixedDelayString = "${app.market.quote-push-interval-ms:200}")
+  public void publishChanged() {
+    if (changedTickers.isEmpty()) {
+      return;
+    }
+    int sent = 0;
+    for (Iterator<String> it = changedTickers.iterator(); it.hasNext(); ) {
+      String ticker = it.next();
+      it.remove();
+      QuoteSnapshot quote = priceBook.get(ticker).orElse(null);
+      if (quote == null) {
+        continue;
+      }
+      try {
+        messagingTemplate.convertAndSend(DESTINATION_PREFIX + ticker, quote);
+        sent++;
+      } catch (RuntimeException e) {
+        log.warn("시세 전송 실패 - 종목: {}, 원인: {}", ticker, e.getMessage());
+      }
+    }
+    log.debug("시세 전송 완료 - 종목 수: {}", sent);
+  }
+}
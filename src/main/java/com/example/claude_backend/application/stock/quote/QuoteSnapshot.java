@@ -0,0 +1,29 @@
+package com.example.claude_backend.application.stock.quote;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시세 스냅샷 (불변)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Builder
+public class QuoteSnapshot {
+  private final String ticker;
+  private final BigDecimal last; // 현재가
+  private final BigDecimal open; // 시가
+  private final BigDecimal high; // 고가
+  private final BigDecimal low; // 저가
+  private final BigDecimal prevClose; // 기준가 (전일 종가)
+  private final BigDecimal change; // 전일 대비
+  private final double changeRate; // 등락률 (%)
+  private final long volume; // 거래량
+  private final LocalDate tradeDate;
+  private final LocalTime tradeTime;
+}
@@ -0,0 +1,135 @@
+package com.example.claude_backend.application.stock.quote;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 종목 코드 → 시세 테이블
+ *
+ * <p>8자 이하 ASCII 종목 코드(국내 6자리 코드 포함)는 long으로 패킹해 open addressing 배열에서 조회한다. 조회는 락 없이 volatile 배열
+ * 참조만 읽고, 신규 종목 추가는 드물기 때문에 배열을 복사해 교체한다(copy-on-write). 패킹할 수 없는 코드는 보조 맵에 둔다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+final class TickerQuoteTable {
+
+  private static final long NOT_PACKABLE = 0L;
+  private static final int INITIAL_CAPACITY = 4096;
+
+  private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+  private final Map<String, Quote> overflow = new ConcurrentHashMap<>();
+
+  Quote get(String ticker) {
+    long key = pack(ticker);
+    return key == NOT_PACKABLE ? overflow.get(ticker) : slots.get(key);
+  }
+
+  Quote getOrCreate(String ticker) {
+    Quote quote = get(ticker);
+    return quote != null ? quote : insert(ticker);
+  }
+
+  int size() {
+    return slots.size + overflow.size();
+  }
+
+  void forEach(Consumer<Quote> action) {
+    Slots current = slots;
+    for (Quote quote : current.values) {
+      if (quote != null) {
+        action.accept(quote);
+      }
+    }
+    overflow.values().forEach(action);
+  }
+
+  private synchronized Quote insert(String ticker) {
+    long key = pack(ticker);
+    if (key == NOT_PACKABLE) {
+      return overflow.computeIfAbsent(ticker, Quote::new);
+    }
+
+    Slots current = slots;
+    Quote existing = current.get(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    // 적재율 50% 이하 유지
+    int capacity = current.keys.length;
+    if ((current.size + 1) * 2 > capacity) {
+      capacity <<= 1;
+    }
+    Slots next = new Slots(capacity);
+    for (int i = 0; i < current.keys.length; i++) {
+      if (current.keys[i] != 0L) {
+        next.put(current.keys[i], current.values[i]);
+      }
+    }
+    Quote quote = new Quote(ticker);
+    next.put(key, quote);
+    slots = next;
+    return quote;
+  }
+
+  /** 8자 이하 ASCII 종목 코드를 long으로 패킹 (불가능하면 0) */
+  static long pack(String ticker) {
+    int length = ticker.length();
+    if (length == 0 || length > 8) {
+      return NOT_PACKABLE;
+    }
+    long key = 0L;
+    for (int i = 0; i < length; i++) {
+      char c = ticker.charAt(i);
+      if (c == 0 || c > 0x7F) {
+        return NOT_PACKABLE;
+      }
+      key = (key << 8) | c;
+    }
+    return key;
+  }
+
+  private static final class Slots {
+    private final long[] keys;
+    private final Quote[] values;
+    private final int mask;
+    private int size;
+
+    private Slots(int capacity) {
+      this.keys = new long[capacity];
+      this.values = new Quote[capacity];
+      this.mask = capacity - 1;
+    }
+
+    private Quote get(long key) {
+      int index = indexFor(key);
+      while (true) {
+        long slotKey = keys[index];
+        if (slotKey == key) {
+          return values[index];
+        }
+        if (slotKey == 0L) {
+          return null;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    private void put(long key, Quote quote) {
+      int index = indexFor(key);
+      while (keys[index] != 0L) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      values[index] = quote;
+      size++;
+    }
+
+    private int indexFor(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32)) & mask;
+    }
+  }
+}
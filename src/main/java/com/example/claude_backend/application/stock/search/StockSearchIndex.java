@@ -0,0 +1,337 @@
+package com.example.claude_backend.application.stock.search;
+
+import com.example.claude_backend.application.stock.event.StockChangedEvent;
+import com.example.claude_backend.domain.stock.entity.Stock;
+import com.example.claude_backend.domain.stock.repository.StockRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 종목 검색 인덱스 (종목 코드, 종목명, 종목명 초성)
+ *
+ * <p>시작 시 stocks 테이블 전체를 읽어 메모리에 인덱스를 만들고, 이후 검색은 DB를 조회하지 않는다. 인덱스는 불변 스냅샷이며 종목이 추가/변경되면 새 스냅샷으로
+ * 교체한다(copy-on-write). 검색어와 종목명은 공백을 제거하고 영문 소문자로 비교한다.
+ *
+ * <ul>
+ *   <li>종목 코드 - 정렬된 코드 배열에서 이진 탐색으로 접두사 범위 조회
+ *   <li>종목명 - 두 글자(bigram) 역색인에서 가장 짧은 목록만 확인
+ *   <li>초성 - 검색어가 모두 초성(ㄱ~ㅎ)이면 종목명 초성 문자열에서 검색 (예: ㅅㅅㅈㅈ → 삼성전자)
+ * </ul>
+ *
+ * <p>순위는 코드 일치, 종목명 일치, 코드 접두사, 종목명 접두사, 종목명 포함, 초성 포함 순이며 같은 순위에서는 일치 위치가 앞이고 종목명이 짧은 종목이 먼저 온다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class StockSearchIndex {
+
+  private static final int MAX_KEYWORD_LENGTH = 50;
+
+  private static final int RANK_TICKER_EXACT = 0;
+  private static final int RANK_NAME_EXACT = 1;
+  private static final int RANK_TICKER_PREFIX = 2;
+  private static final int RANK_NAME_PREFIX = 3;
+  private static final int RANK_NAME_CONTAINS = 4;
+  private static final int RANK_CHOSUNG = 5;
+
+  private static final char[] CHOSUNG = {
+    'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private final StockRepository stockRepository;
+  private final int maxResults;
+
+  // 시작 후 첫 로드 전에는 null (검색하지 않고 DB 조회로 대체)
+  private volatile Snapshot snapshot;
+
+  public StockSearchIndex(
+      StockRepository stockRepository,
+      @Value("${app.stock.search.max-results:20}") int maxResults) {
+    this.stockRepository = stockRepository;
+    this.maxResults = Math.max(1, maxResults);
+  }
+
+  /** 시작 시 전체 종목 로드 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    try {
+      List<Stock> stocks = stockRepository.findAll();
+      snapshot = new Snapshot(stocks);
+      log.info("종목 검색 인덱스 로드 완료 - 종목 수: {}", stocks.size());
+    } catch (RuntimeException e) {
+      log.warn("종목 검색 인덱스 로드 실패 - DB 검색을 사용합니다: {}", e.getMessage());
+    }
+  }
+
+  /** 종목 추가/변경 커밋 후 해당 종목만 반영 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStockChanged(StockChangedEvent event) {
+    try {
+      stockRepository.findByTicker(event.getTicker()).ifPresent(this::put);
+    } catch (RuntimeException e) {
+      log.warn("종목 검색 인덱스 갱신 실패 - 종목: {}, 원인: {}", event.getTicker(), e.getMessage());
+    }
+  }
+
+  /** 인덱스 사용 가능 여부 (시작 시 로드에 실패하면 false) */
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  /**
+   * 종목 검색
+   *
+   * @param keyword 검색어 (종목 코드, 종목명 일부, 종목명 초성)
+   * @return 순위순 종목 목록 (최대 {@code app.stock.search.max-results}개)
+   */
+  public List<Stock> search(String keyword) {
+    Snapshot current = snapshot;
+    if (current == null || keyword == null) {
+      return List.of();
+    }
+    String query = normalize(keyword);
+    if (query.isEmpty() || query.length() > MAX_KEYWORD_LENGTH) {
+      return List.of();
+    }
+    return current.search(query, maxResults);
+  }
+
+  private synchronized void put(Stock stock) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return;
+    }
+    List<Stock> stocks = new ArrayList<>(current.stocks.length + 1);
+    for (Stock existing : current.stocks) {
+      if (!existing.getTicker().equals(stock.getTicker())) {
+        stocks.add(existing);
+      }
+    }
+    stocks.add(stock);
+    snapshot = new Snapshot(stocks);
+  }
+
+  /** 공백 제거, 영문 소문자 변환 */
+  static String normalize(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        builder.append(c < 0x80 ? Character.toLowerCase(c) : c);
+      }
+    }
+    return builder.toString();
+  }
+
+  /** 한글 음절을 초성으로 변환 (한글이 아닌 문자는 그대로) */
+  static String chosung(String normalized) {
+    char[] chars = new char[normalized.length()];
+    for (int i = 0; i < chars.length; i++) {
+      char c = normalized.charAt(i);
+      chars[i] = c >= '가' && c <= '힣' ? CHOSUNG[(c - '가') / (21 * 28)] : c;
+    }
+    return new String(chars);
+  }
+
+  private static boolean isChosungQuery(String query) {
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      if (c < 'ㄱ' || c > 'ㅎ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int bigram(char first, char second) {
+    return (first << 16) | second;
+  }
+
+  /** 불변 인덱스 스냅샷 (종목 코드순 정렬) */
+  private static final class Snapshot {
+
+    private final Stock[] stocks;
+    private final String[] tickers;
+    private final String[] names;
+    private final String[] chosungs;
+
+    // bigram 키(정렬) -> 해당 bigram을 포함하는 종목 번호 목록
+    private final int[] bigrams;
+    private final int[][] postings;
+
+    private Snapshot(List<Stock> source) {
+      stocks = source.toArray(new Stock[0]);
+      Arrays.sort(stocks, Comparator.comparing(stock -> normalize(stock.getTicker())));
+      tickers = new String[stocks.length];
+      names = new String[stocks.length];
+      chosungs = new String[stocks.length];
+
+      Map<Integer, List<Integer>> index = new HashMap<>();
+      for (int i = 0; i < stocks.length; i++) {
+        tickers[i] = normalize(stocks[i].getTicker());
+        names[i] = normalize(stocks[i].getName());
+        chosungs[i] = chosung(names[i]);
+        for (int j = 1; j < names[i].length(); j++) {
+          List<Integer> list =
+              index.computeIfAbsent(
+                  bigram(names[i].charAt(j - 1), names[i].charAt(j)), key -> new ArrayList<>());
+          // 같은 종목명 안에서 반복되는 bigram은 한 번만
+          if (list.isEmpty() || list.get(list.size() - 1) != i) {
+            list.add(i);
+          }
+        }
+      }
+
+      bigrams = index.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+      postings = new int[bigrams.length][];
+      for (int i = 0; i < bigrams.length; i++) {
+        postings[i] = index.get(bigrams[i]).stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+
+    private List<Stock> search(String query, int limit) {
+      TopK top = new TopK(limit);
+
+      // 1. 종목 코드 접두사 (코드순 정렬 배열에서 범위 조회)
+      for (int i = lowerBound(query); i < tickers.length && tickers[i].startsWith(query); i++) {
+        top.offer(
+            i,
+            tickers[i].length() == query.length() ? RANK_TICKER_EXACT : RANK_TICKER_PREFIX,
+            0,
+            names[i].length());
+      }
+
+      // 2. 종목명 포함 (bigram 목록 중 가장 짧은 것만 확인)
+      if (query.length() == 1) {
+        for (int i = 0; i < names.length; i++) {
+          offerName(top, i, query);
+        }
+      } else {
+        int[] candidates = shortestPostings(query);
+        if (candidates != null) {
+          for (int i : candidates) {
+            offerName(top, i, query);
+          }
+        }
+      }
+
+      // 3. 초성
+      if (isChosungQuery(query)) {
+        for (int i = 0; i < chosungs.length; i++) {
+          int position = chosungs[i].indexOf(query);
+          if (position >= 0) {
+            top.offer(i, RANK_CHOSUNG, position, names[i].length());
+          }
+        }
+      }
+
+      return top.toList(stocks);
+    }
+
+    private void offerName(TopK top, int i, String query) {
+      int position = names[i].indexOf(query);
+      if (position < 0) {
+        return;
+      }
+      int rank;
+      if (position > 0) {
+        rank = RANK_NAME_CONTAINS;
+      } else {
+        rank = names[i].length() == query.length() ? RANK_NAME_EXACT : RANK_NAME_PREFIX;
+      }
+      top.offer(i, rank, position, names[i].length());
+    }
+
+    private int[] shortestPostings(String query) {
+      int[] shortest = null;
+      for (int j = 1; j < query.length(); j++) {
+        int found = Arrays.binarySearch(bigrams, bigram(query.charAt(j - 1), query.charAt(j)));
+        if (found < 0) {
+          // 없는 bigram이 있으면 일치하는 종목명도 없다
+          return null;
+        }
+        if (shortest == null || postings[found].length < shortest.length) {
+          shortest = postings[found];
+        }
+      }
+      return shortest;
+    }
+
+    private int lowerBound(String query) {
+      int low = 0;
+      int high = tickers.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (tickers[mid].compareTo(query) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+
+  /** 점수가 낮은 순으로 상위 K개 종목 번호 보관 (같은 종목은 가장 좋은 점수 하나만) */
+  private static final class TopK {
+
+    private final int[] indexes;
+    private final long[] scores;
+    private int size;
+
+    private TopK(int limit) {
+      indexes = new int[limit];
+      scores = new long[limit];
+    }
+
+    private void offer(int index, int rank, int position, int nameLength) {
+      long score = ((long) rank << 40) | ((long) position << 20) | nameLength;
+      for (int i = 0; i < size; i++) {
+        if (indexes[i] == index) {
+          if (scores[i] <= score) {
+            return;
+          }
+          // 더 좋은 점수로 다시 넣기 위해 제거
+          System.arraycopy(indexes, i + 1, indexes, i, size - i - 1);
+          System.arraycopy(scores, i + 1, scores, i, size - i - 1);
+          size--;
+          break;
+        }
+      }
+      if (size == indexes.length && scores[size - 1] <= score) {
+        return;
+      }
+      int insertAt = size == indexes.length ? size - 1 : size;
+      while (insertAt > 0 && scores[insertAt - 1] > score) {
+        indexes[insertAt] = indexes[insertAt - 1];
+        scores[insertAt] = scores[insertAt - 1];
+        insertAt--;
+      }
+      indexes[insertAt] = index;
+      scores[insertAt] = score;
+      if (size < indexes.length) {
+        size++;
+      }
+    }
+
+    private List<Stock> toList(Stock[] stocks) {
+      List<Stock> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(stocks[indexes[i]]);
+      }
+      return result;
+    }
+  }
+}
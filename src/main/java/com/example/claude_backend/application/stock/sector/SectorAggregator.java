@@ -0,0 +1,184 @@
+package com.example.claude_backend.application.stock.sector;
+
+import com.example.claude_backend.application.stock.dto.SectorSummaryResponse;
+import com.example.claude_backend.application.stock.dto.StockResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업종별 집계 (종목 수, 평균 등락률, 거래량 합계, 상승/하락 상위 종목)
+ *
+ * <p>종목 행이 바뀔 때마다 해당 업종의 합계와 등락률순 집합만 갱신하고, {@link #publish()} 시 바뀐 업종의 응답을 미리 만들어 둔다. 조회는 만들어 둔
+ * 응답을 그대로 반환한다(O(1)).
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+public class SectorAggregator {
+
+  // 등락률 내림차순, 같으면 종목 코드순
+  private static final Comparator<StockResponse> BY_CHANGE_RATE =
+      Comparator.comparingDouble(StockResponse::getChangeRate)
+          .reversed()
+          .thenComparing(StockResponse::getCode);
+
+  private final int topMovers;
+
+  // 갱신은 이 객체 모니터 안에서만
+  private final Map<String, SectorState> states = new HashMap<>();
+  private final Set<String> changedSectors = new HashSet<>();
+
+  // 조회용 (publish 시 교체)
+  private volatile Map<String, SectorView> views = Map.of();
+
+  public SectorAggregator(@Value("${app.stock.sector.top-movers:5}") int topMovers) {
+    this.topMovers = topMovers;
+  }
+
+  /**
+   * 종목 행 교체 반영
+   *
+   * @param previous 이전 행 (새 종목이면 null)
+   * @param current 새 행
+   */
+  public synchronized void update(StockResponse previous, StockResponse current) {
+    if (previous != null && hasSector(previous)) {
+      SectorState state = states.get(previous.getSector());
+      if (state != null) {
+        state.remove(previous);
+        changedSectors.add(previous.getSector());
+      }
+    }
+    if (hasSector(current)) {
+      states.computeIfAbsent(current.getSector(), sector -> new SectorState()).add(current);
+      changedSectors.add(current.getSector());
+    }
+  }
+
+  /** 바뀐 업종의 조회 응답 갱신 */
+  public synchronized void publish() {
+    if (changedSectors.isEmpty()) {
+      return;
+    }
+    Map<String, SectorView> next = new HashMap<>(views);
+    for (String sector : changedSectors) {
+      SectorState state = states.get(sector);
+      if (state == null || state.stocks.isEmpty()) {
+        states.remove(sector);
+        next.remove(sector);
+      } else {
+        next.put(sector, state.toView(sector, topMovers));
+      }
+    }
+    changedSectors.clear();
+    views = Map.copyOf(next);
+  }
+
+  /** 업종 종목 목록 (등락률 내림차순, 없는 업종이면 빈 목록) */
+  public List<StockResponse> getStocks(String sector) {
+    SectorView view = views.get(sector);
+    return view == null ? List.of() : view.stocks;
+  }
+
+  /** 업종 요약 (없는 업종이면 종목 수 0) */
+  public SectorSummaryResponse getSummary(String sector) {
+    SectorView view = views.get(sector);
+    if (view == null) {
+      return SectorSummaryResponse.builder()
+          .sector(sector)
+          .topGainers(List.of())
+          .topLosers(List.of())
+          .build();
+    }
+    return view.summary;
+  }
+
+  /** 전체 업종 요약 (업종명순) */
+  public List<SectorSummaryResponse> getSummaries() {
+    return views.values().stream()
+        .map(view -> view.summary)
+        .sorted(Comparator.comparing(SectorSummaryResponse::getSector))
+        .toList();
+  }
+
+  private static boolean hasSector(StockResponse stock) {
+    return stock.getSector() != null && !stock.getSector().isBlank();
+  }
+
+  /** 업종별 누적 상태 */
+  private static final class SectorState {
+
+    private final NavigableSet<StockResponse> stocks = new TreeSet<>(BY_CHANGE_RATE);
+    private double changeRateSum;
+    private long volumeSum;
+
+    private void add(StockResponse stock) {
+      if (stocks.add(stock)) {
+        changeRateSum += stock.getChangeRate();
+        volumeSum += stock.getVolume();
+      }
+    }
+
+    private void remove(StockResponse stock) {
+      if (stocks.remove(stock)) {
+        changeRateSum -= stock.getChangeRate();
+        volumeSum -= stock.getVolume();
+      }
+    }
+
+    private SectorView toView(String sector, int topMovers) {
+      List<StockResponse> gainers = new ArrayList<>(topMovers);
+      for (Iterator<StockResponse> it = stocks.iterator();
+          it.hasNext() && gainers.size() < topMovers; ) {
+        StockResponse stock = it.next();
+        if (stock.getChangeRate() <= 0) {
+          break;
+        }
+        gainers.add(stock);
+      }
+      List<StockResponse> losers = new ArrayList<>(topMovers);
+      for (Iterator<StockResponse> it = stocks.descendingIterator();
+          it.hasNext() && losers.size() < topMovers; ) {
+        StockResponse stock = it.next();
+        if (stock.getChangeRate() >= 0) {
+          break;
+        }
+        losers.add(stock);
+      }
+
+      SectorSummaryResponse summary =
+          SectorSummaryResponse.builder()
+              .sector(sector)
+              .stockCount(stocks.size())
+              .averageChangeRate(Math.round(changeRateSum / stocks.size() * 100) / 100.0)
+              .totalVolume(volumeSum)
+              .topGainers(List.copyOf(gainers))
+              .topLosers(List.copyOf(losers))
+              .build();
+      return new SectorView(summary, List.copyOf(stocks));
+    }
+  }
+
+  /** 업종 조회 응답 (불변) */
+  private static final class SectorView {
+
+    private final SectorSummaryResponse summary;
+    private final List<StockResponse> stocks;
+
+    private SectorView(SectorSummaryResponse summary, List<StockResponse> stocks) {
+      this.summary = summary;
+      this.stocks = stocks;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.claude_backend.application.stock.sector;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종목 업종 분류
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockClassification {
+  private final String ticker;
+  private final String sector; // 업종 (대분류)
+  private final String industry; // 세부 업종
+}
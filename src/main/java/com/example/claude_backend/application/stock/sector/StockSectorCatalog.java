@@ -0,0 +1,100 @@
+package com.example.claude_backend.application.stock.sector;
+
+import com.example.claude_backend.application.stock.event.StockChangedEvent;
+import com.example.claude_backend.infrastructure.persistence.jdbc.StockJdbcRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 종목 업종 분류 시드
+ *
+ * <p>시작 시 CSV 시드({@code ticker,sector,industry}, 첫 줄은 헤더)를 읽어 stocks 테이블에 한 번의 배치 UPDATE로 반영한다. 이후
+ * 새로 추가된 종목도 시드에 있으면 커밋 후 분류를 반영한다. 종목을 메모리에 올리는 다른 컴포넌트보다 먼저 실행되어 처음부터 분류된 종목을 읽게 한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class StockSectorCatalog {
+
+  private final StockJdbcRepository stockJdbcRepository;
+  private final ResourceLoader resourceLoader;
+  private final String seedFile;
+
+  private final Map<String, StockClassification> classifications = new ConcurrentHashMap<>();
+
+  public StockSectorCatalog(
+      StockJdbcRepository stockJdbcRepository,
+      ResourceLoader resourceLoader,
+      @Value("${app.stock.sector-seed:classpath:db/stock-sectors.csv}") String seedFile) {
+    this.stockJdbcRepository = stockJdbcRepository;
+    this.resourceLoader = resourceLoader;
+    this.seedFile = seedFile;
+  }
+
+  /** 시드 로드 및 stocks 테이블 반영 (종목 마스터 반영 다음) */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  public void load() {
+    if (seedFile.isBlank()) {
+      return;
+    }
+    Resource resource = resourceLoader.getResource(seedFile);
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      reader.readLine(); // 헤더
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] columns = line.split(",");
+        if (columns.length < 3 || columns[0].isBlank()) {
+          continue;
+        }
+        StockClassification classification =
+            new StockClassification(columns[0].trim(), columns[1].trim(), columns[2].trim());
+        classifications.put(classification.getTicker(), classification);
+      }
+    } catch (IOException e) {
+      log.warn("업종 분류 시드를 읽을 수 없습니다: {} ({})", seedFile, e.getMessage());
+      return;
+    }
+
+    try {
+      stockJdbcRepository.batchUpdateClassifications(classifications.values());
+      log.info("업종 분류 반영 완료 - 종목 수: {}", classifications.size());
+    } catch (RuntimeException e) {
+      log.warn("업종 분류 반영 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 새 종목 커밋 후 분류 반영 (종목을 다시 읽는 다른 리스너보다 먼저) */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onStockChanged(StockChangedEvent event) {
+    StockClassification classification = classifications.get(event.getTicker());
+    if (classification == null) {
+      return;
+    }
+    try {
+      stockJdbcRepository.batchUpdateClassifications(List.of(classification));
+    } catch (RuntimeException e) {
+      log.warn("업종 분류 반영 실패 - 종목: {}, 원인: {}", event.getTicker(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.example.claude_backend.application.stock.service;
+
+import com.example.claude_backend.application.stock.candle.Candle;
+import com.example.claude_backend.application.stock.candle.CandleInterval;
+import com.example.claude_backend.application.stock.candle.CandleStore;
+import com.example.claude_backend.application.stock.dto.PriceIngestResponse;
+import com.example.claude_backend.application.stock.dto.PriceTickRequest;
+import com.example.claude_backend.application.stock.listing.StockListingView;
+import com.example.claude_backend.application.stock.master.StockDirectory;
+import com.example.claude_backend.application.stock.quote.PriceBook;
+import com.example.claude_backend.application.stock.quote.QuoteBroadcaster;
+import com.example.claude_backend.application.stock.quote.QuoteSnapshot;
+import com.example.claude_backend.application.trade.portfolio.PortfolioEngine;
+import com.example.claude_backend.domain.stock.repository.StockRepository;
+import com.example.claude_backend.infrastructure.persistence.jdbc.CandleJdbcRepository;
+import com.example.claude_backend.infrastructure.persistence.jdbc.StockJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시세 수집 서비스
+ *
+ * <p>틱 수집 API 또는 리플레이 파일로 받은 체결 틱을 {@link PriceBook}, {@link CandleStore}와 보유자 포트폴리오에 반영해 구독자에게
+ * 푸시하고, 변경된 종목만 주기적으로 stocks 테이블에 한 번의 배치 UPDATE로 체크포인트한다. 종목 마스터({@link StockDirectory})에 없는 종목의
+ * 틱은 반영하지 않는다.
+ *
+ * <p>시작 시에는 체크포인트된 현재가와 최근 일봉으로 시세판을 복원한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketDataService {
+
+  private static final int MAX_TICKER_LENGTH = 20;
+  private static final BigDecimal MAX_PRICE = BigDecimal.valueOf(1_000_000_000_000L);
+
+  /** 기준가(직전 거래일 종가)를 찾을 일봉 조회 기간 (휴장일 포함) */
+  private static final int SEED_LOOKBACK_DAYS = 14;
+
+  private final PriceBook priceBook;
+  private final QuoteBroadcaster quoteBroadcaster;
+  private final StockListingView stockListingView;
+  private final StockDirectory stockDirectory;
+  private final CandleStore candleStore;
+  private final PortfolioEngine portfolioEngine;
+  private final StockRepository stockRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+  private final CandleJdbcRepository candleJdbcRepository;
+  private final ResourceLoader resourceLoader;
+
+  @Value("${app.market.replay-file:}")
+  private String replayFile;
+
+  /** 시작 시 DB 가격과 일봉으로 시세판 초기화 후 리플레이 파일 반영 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    try {
+      Map<String, List<Candle>> dailyCandles = loadRecentDailyCandles();
+      stockRepository
+          .findAll()
+          .forEach(
+              stock ->
+                  priceBook.seed(
+                      stock.getTicker(),
+                      stock.getCurrentPrice(),
+                      stock.getTradeDate(),
+                      stock.getTradeTime(),
+                      dailyCandles.getOrDefault(stock.getTicker(), List.of())));
+      log.info("시세판 초기화 완료 - 종목 수: {}", priceBook.size());
+    } catch (RuntimeException e) {
+      log.warn("시세판 초기화 실패: {}", e.getMessage());
+    }
+
+    if (!replayFile.isBlank()) {
+      replay(resourceLoader.getResource(replayFile));
+    }
+  }
+
+  /** 체결 틱 일괄 반영 (종목 마스터에 없는 종목은 무시) */
+  public PriceIngestResponse ingest(List<PriceTickRequest> ticks) {
+    int accepted = 0;
+    int rejected = 0;
+    LocalDate today = LocalDate.now();
+    LocalTime now = LocalTime.now();
+    Map<String, Boolean> listed = new HashMap<>();
+
+    for (PriceTickRequest tick : ticks) {
+      if (!isValid(tick) || !listed.computeIfAbsent(tick.getTicker(), stockDirectory::contains)) {
+        rejected++;
+        continue;
+      }
+      long volume = tick.getVolume() != null ? tick.getVolume() : 0L;
+      LocalDate tradeDate = tick.getTradeDate() != null ? tick.getTradeDate() : today;
+      LocalTime tradeTime = tick.getTradeTime() != null ? tick.getTradeTime() : now;
+      if (priceBook.apply(tick.getTicker(), tick.getPrice(), volume, tradeDate, tradeTime)) {
+        candleStore.record(tick.getTicker(), tick.getPrice(), volume, tradeDate, tradeTime);
+        quoteBroadcaster.markChanged(tick.getTicker());
+        stockListingView.markChanged(tick.getTicker());
+        portfolioEngine.onPriceChanged(tick.getTicker());
+        accepted++;
+      } else {
+        rejected++;
+      }
+    }
+
+    log.debug("시세 틱 반영 - 반영: {}, 무시: {}", accepted, rejected);
+    return PriceIngestResponse.builder().accepted(accepted).rejected(rejected).build();
+  }
+
+  /** 변경된 종목 시세를 stocks 테이블에 저장 */
+  @Scheduled(
+      fixedDelayString = "${app.market.checkpoint-interval-ms:5000}",
+      initialDelayString = "${app.market.checkpoint-interval-ms:5000}")
+  public void checkpoint() {
+    List<QuoteSnapshot> dirty = priceBook.drainDirty();
+    if (dirty.isEmpty()) {
+      return;
+    }
+    try {
+      stockJdbcRepository.batchUpdatePrices(dirty);
+      log.debug("시세 체크포인트 완료 - 종목 수: {}", dirty.size());
+    } catch (RuntimeException e) {
+      log.warn("시세 체크포인트 실패 - 종목 수: {}, 원인: {}", dirty.size(), e.getMessage());
+      dirty.forEach(quote -> priceBook.markDirty(quote.getTicker()));
+    }
+  }
+
+  /** 종료 전 마지막 체크포인트 */
+  @PreDestroy
+  public void flushOnShutdown() {
+    checkpoint();
+  }
+
+  /** 종목별 최근 일봉 2개 (시각 내림차순), 조회에 실패하면 빈 맵 */
+  private Map<String, List<Candle>> loadRecentDailyCandles() {
+    Map<String, List<Candle>> candles = new HashMap<>();
+    try {
+      LocalDateTime since = LocalDate.now().minusDays(SEED_LOOKBACK_DAYS).atStartOfDay();
+      for (Candle candle : candleJdbcRepository.findLatestCandles(CandleInterval.DAY_1, since, 2)) {
+        candles.computeIfAbsent(candle.getTicker(), key -> new ArrayList<>()).add(candle);
+      }
+    } catch (RuntimeException e) {
+      log.warn("최근 일봉 조회 실패 - 현재가로만 시세판을 초기화합니다: {}", e.getMessage());
+    }
+    return candles;
+  }
+
+  /**
+   * 리플레이 파일 반영
+   *
+   * <p>한 줄에 틱 하나: {@code 종목코드,가격,수량[,거래일(yyyy-MM-dd)[,시각(HH:mm:ss)]]}. '#'으로 시작하는 줄은 무시한다.
+   */
+  private void replay(Resource resource) {
+    List<PriceTickRequest> ticks = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        PriceTickRequest tick = parseReplayLine(line);
+        if (tick != null) {
+          ticks.add(tick);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("시세 리플레이 파일을 읽을 수 없습니다: {} ({})", replayFile, e.getMessage());
+      return;
+    }
+
+    PriceIngestResponse result = ingest(ticks);
+    log.info(
+        "시세 리플레이 완료 - 파일: {}, 반영: {}, 무시: {}",
+        replayFile,
+        result.getAccepted(),
+        result.getRejected());
+  }
+
+  private PriceTickRequest parseReplayLine(String line) {
+    String[] columns = line.split(",");
+    try {
+      return new PriceTickRequest(
+          columns[0].trim(),
+          new BigDecimal(columns[1].trim()),
+          columns.length > 2 ? Long.parseLong(columns[2].trim()) : 0L,
+          columns.length > 3 ? LocalDate.parse(columns[3].trim()) : null,
+          columns.length > 4 ? LocalTime.parse(columns[4].trim()) : null);
+    } catch (RuntimeException e) {
+      log.warn("잘못된 리플레이 라인 무시: {}", line);
+      return null;
+    }
+  }
+
+  private boolean isValid(PriceTickRequest tick) {
+    return tick != null
+        && tick.getTicker() != null
+        && !tick.getTicker().isBlank()
+        && tick.getTicker().length() <= MAX_TICKER_LENGTH
+        && tick.getPrice() != null
+        && tick.getPrice().signum() > 0
+        && tick.getPrice().compareTo(MAX_PRICE) <= 0
+        && (tick.getVolume() == null || tick.getVolume() >= 0);
+  }
+}
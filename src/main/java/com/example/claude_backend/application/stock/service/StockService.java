@@ -1,14 +1,41 @@
 package com.example.claude_backend.application.stock.service;
 
+import com.example.claude_backend.application.stock.dto.CandleResponse;
+import com.example.claude_backend.application.stock.dto.SectorSummaryResponse;
+import com.example.claude_backend.application.stock.dto.StockListingRequest;
+import com.example.claude_backend.application.stock.dto.StockPageResponse;
 import com.example.claude_backend.application.stock.dto.StockResponse;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface StockService {
-  List<StockResponse> getAllStocks();
+  /** 전체 종목을 종목 코드순으로 하나씩 전달 (응답 스트리밍용) */
+  void forEachStock(Consumer<StockResponse> action);
+
+  /** 정렬/필터 조건으로 종목 목록 페이지 조회 */
+  StockPageResponse getStockPage(StockListingRequest request);
 
   StockResponse getStockByCode(String stockCode);
 
   List<StockResponse> searchStocks(String keyword);
 
+  /** 업종 종목 목록 (등락률 내림차순) */
   List<StockResponse> getStocksBySector(String sector);
+
+  /** 업종 요약 (평균 등락률, 거래량 합계, 상승/하락 상위 종목) */
+  SectorSummaryResponse getSectorSummary(String sector);
+
+  /** 전체 업종 요약 */
+  List<SectorSummaryResponse> getSectorSummaries();
+
+  /**
+   * 종목 봉(OHLCV) 조회
+   *
+   * @param interval 봉 주기 (1m, 5m, 1h, 1d)
+   * @param from 시작 시각 (null이면 최근 구간)
+   * @param to 끝 시각 (null이면 현재 시각)
+   */
+  List<CandleResponse> getCandles(
+      String stockCode, String interval, LocalDateTime from, LocalDateTime to);
 }
@@ -1,10 +1,22 @@
 package com.example.claude_backend.application.stock.service;
 
+import com.example.claude_backend.application.stock.candle.CandleInterval;
+import com.example.claude_backend.application.stock.candle.CandleStore;
+import com.example.claude_backend.application.stock.dto.CandleResponse;
+import com.example.claude_backend.application.stock.dto.SectorSummaryResponse;
+import com.example.claude_backend.application.stock.dto.StockListingRequest;
+import com.example.claude_backend.application.stock.dto.StockPageResponse;
 import com.example.claude_backend.application.stock.dto.StockResponse;
+import com.example.claude_backend.application.stock.listing.StockListingView;
+import com.example.claude_backend.application.stock.quote.PriceBook;
+import com.example.claude_backend.application.stock.search.StockSearchIndex;
+import com.example.claude_backend.application.stock.sector.SectorAggregator;
 import com.example.claude_backend.domain.stock.entity.Stock;
 import com.example.claude_backend.domain.stock.exception.StockNotFoundException;
 import com.example.claude_backend.domain.stock.repository.StockRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,12 +28,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class StockServiceImpl implements StockService {
 
   private final StockRepository stockRepository;
+  private final PriceBook priceBook;
+  private final StockSearchIndex stockSearchIndex;
+  private final StockListingView stockListingView;
+  private final SectorAggregator sectorAggregator;
+  private final CandleStore candleStore;
 
   @Override
-  public List<StockResponse> getAllStocks() {
-    return stockRepository.findAll().stream()
-        .map(this::convertToStockResponse)
-        .collect(Collectors.toList());
+  public void forEachStock(Consumer<StockResponse> action) {
+    stockListingView.forEach(action);
+  }
+
+  @Override
+  public StockPageResponse getStockPage(StockListingRequest request) {
+    return stockListingView.page(request);
   }
 
   @Override
@@ -36,27 +56,39 @@ public class StockServiceImpl implements StockService {
 
   @Override
   public List<StockResponse> searchStocks(String keyword) {
-    return stockRepository.findByKeyword(keyword).stream()
-        .map(this::convertToStockResponse)
-        .collect(Collectors.toList());
+    // 메모리 검색 인덱스 사용 (시작 시 로드에 실패한 경우에만 DB LIKE 검색)
+    List<Stock> stocks =
+        stockSearchIndex.isReady()
+            ? stockSearchIndex.search(keyword)
+            : stockRepository.findByKeyword(keyword);
+    return stocks.stream().map(this::convertToStockResponse).collect(Collectors.toList());
   }
 
   @Override
   public List<StockResponse> getStocksBySector(String sector) {
-    // Stock 엔티티에 sector 필드가 없으므로 임시로 빈 리스트 반환
-    return List.of();
+    return sectorAggregator.getStocks(sector);
+  }
+
+  @Override
+  public SectorSummaryResponse getSectorSummary(String sector) {
+    return sectorAggregator.getSummary(sector);
+  }
+
+  @Override
+  public List<SectorSummaryResponse> getSectorSummaries() {
+    return sectorAggregator.getSummaries();
+  }
+
+  @Override
+  public List<CandleResponse> getCandles(
+      String stockCode, String interval, LocalDateTime from, LocalDateTime to) {
+    return candleStore.getCandles(stockCode, CandleInterval.fromCode(interval), from, to).stream()
+        .map(CandleResponse::of)
+        .collect(Collectors.toList());
   }
 
   private StockResponse convertToStockResponse(Stock stock) {
-    return StockResponse.builder()
-        .code(stock.getTicker())
-        .name(stock.getName())
-        .currentPrice(stock.getCurrentPrice().doubleValue())
-        .changeRate(0.0) // Stock 엔티티에 해당 필드가 없음
-        .changeAmount(0.0) // Stock 엔티티에 해당 필드가 없음
-        .volume(0L) // Stock 엔티티에 해당 필드가 없음
-        .marketCap(0.0) // Stock 엔티티에 해당 필드가 없음
-        .sector("") // Stock 엔티티에 해당 필드가 없음
-        .build();
+    // 메모리 시세판에 시세가 있으면 우선 사용
+    return StockResponse.of(stock, priceBook.get(stock.getTicker()).orElse(null));
   }
 }
@@ -7,7 +7,7 @@ import lombok.Setter;
 @Setter
 public class TradeRequest {
   private String stockCode;
-  private String stockName;
+  private String stockName; // 사용하지 않음 (종목명은 종목 마스터 기준)
   private Integer quantity;
   private Double price;
   private String tradeType; // BUY, SELL
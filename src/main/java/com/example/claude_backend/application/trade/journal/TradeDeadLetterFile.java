@@ -0,0 +1,78 @@
+package com.example.claude_backend.application.trade.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장하지 못한 거래 기록 보관 파일 (dead letter)
+ *
+ * <p>재시도와 건별 저장까지 실패한 거래 기록을 JSON 한 줄(trades 테이블 한 행과 실패 원인)씩 파일 끝에 추가하고 디스크에 동기화한다. 원인을 해결한 뒤 파일의
+ * 기록을 다시 반영한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class TradeDeadLetterFile {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private final Path path;
+
+  public TradeDeadLetterFile(
+      @Value("${app.trade.journal.dead-letter-file:data/trade-journal-dead-letter.jsonl}")
+          String path) {
+    this.path = Path.of(path).toAbsolutePath();
+  }
+
+  /**
+   * 거래 기록 추가
+   *
+   * @param cause 저장 실패 원인
+   * @return 파일에 기록했으면 true
+   */
+  public synchronized boolean append(TradeJournalEntry entry, String cause) {
+    try {
+      ObjectNode line = objectMapper.valueToTree(entry);
+      line.put("error", cause);
+      byte[] bytes =
+          (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+      Files.createDirectories(path.getParent());
+      try (FileChannel channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.APPEND)) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(false);
+      }
+      return true;
+    } catch (IOException | RuntimeException e) {
+      log.error("거래 기록 보관 파일 기록 실패 - 파일: {}, 원인: {}", path, e.getMessage());
+      return false;
+    }
+  }
+
+  public Path getPath() {
+    return path;
+  }
+}
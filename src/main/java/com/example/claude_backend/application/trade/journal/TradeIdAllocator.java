@@ -0,0 +1,55 @@
+package com.example.claude_backend.application.trade.journal;
+
+import com.example.claude_backend.domain.trade.entity.Trade;
+import com.example.claude_backend.infrastructure.persistence.jdbc.TradeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 ID 할당기
+ *
+ * <p>trade_seq의 nextval 한 번으로 {@link Trade#ID_ALLOCATION_SIZE}개의 ID 블록을 확보한다(pooled-lo 방식: 시퀀스 값이
+ * 블록의 시작값). Hibernate의 pooled-lo 옵티마이저와 같은 규칙이므로 두 경로가 같은 시퀀스를 써도 ID가 겹치지 않는다.
+ *
+ * <p>시퀀스의 INCREMENT가 블록 크기와 다르면 블록이 겹쳐 거래 기록 INSERT가 실패하므로, 시작 시 확인하고 다르면 애플리케이션을 시작하지 않는다
+ * (db/migration/postgresql/V1 참고).
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeIdAllocator implements SmartInitializingSingleton {
+
+  private final TradeJdbcRepository tradeJdbcRepository;
+
+  private long next;
+  private long limit;
+
+  /** 시퀀스 증가값 확인 (JPA 스키마 생성 이후 실행) */
+  @Override
+  public void afterSingletonsInstantiated() {
+    long increment =
+        tradeJdbcRepository
+            .findIdSequenceIncrement()
+            .orElseThrow(() -> new IllegalStateException("trade_seq 시퀀스가 없습니다."));
+    if (increment != Trade.ID_ALLOCATION_SIZE) {
+      throw new IllegalStateException(
+          "trade_seq의 INCREMENT("
+              + increment
+              + ")가 ID 블록 크기("
+              + Trade.ID_ALLOCATION_SIZE
+              + ")와 다릅니다. db/migration 마이그레이션을 적용하세요.");
+    }
+  }
+
+  /** 다음 거래 ID 할당 */
+  public synchronized long nextId() {
+    if (next >= limit) {
+      next = tradeJdbcRepository.nextIdBlockStart();
+      limit = next + Trade.ID_ALLOCATION_SIZE;
+    }
+    return next++;
+  }
+}
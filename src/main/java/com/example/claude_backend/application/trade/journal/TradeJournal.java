@@ -0,0 +1,341 @@
+package com.example.claude_backend.application.trade.journal;
+
+import com.example.claude_backend.domain.common.Money;
+import com.example.claude_backend.domain.trade.entity.Trade.TradeStatus;
+import com.example.claude_backend.domain.trade.entity.Trade.TradeType;
+import com.example.claude_backend.infrastructure.persistence.jdbc.TradeJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 거래 저널
+ *
+ * <p>주문 트랜잭션(계좌/보유 주식 갱신)이 커밋된 뒤 거래 기록을 큐에 넣고, 전용 스레드가 flush 주기 또는 배치 크기에 도달할 때마다 JDBC 배치 INSERT 한
+ * 번, 커밋 한 번으로 모아서 저장한다(group commit). 따라서 거래 내역 조회에는 flush 주기만큼의 지연이 있을 수 있다.
+ *
+ * <p>큐가 가득 차면 요청 스레드가 잠시 대기하고(backpressure), 그래도 자리가 나지 않으면 해당 건을 즉시 동기 저장한다. 애플리케이션 종료 시에는 큐에 남은
+ * 기록을 모두 저장한 뒤 종료한다.
+ *
+ * <p>배치 저장이 재시도 후에도 실패하면 건별로 저장하고, 그래도 실패한 기록은 버리지 않고 {@link TradeDeadLetterFile}에 보관한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class TradeJournal implements SmartLifecycle {
+
+  private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+  private final TradeJdbcRepository tradeJdbcRepository;
+  private final TradeIdAllocator tradeIdAllocator;
+  private final TradeDeadLetterFile deadLetterFile;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<TradeJournalEntry> queue;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final long offerTimeoutMillis;
+  private final long shutdownTimeoutMillis;
+
+  private final Counter enqueuedCounter;
+  private final Counter flushedCounter;
+  private final Counter fallbackCounter;
+  private final Counter deadLetterCounter;
+  private final Counter failedCounter;
+  private final Timer flushTimer;
+  private final Timer offerWaitTimer;
+  private final DistributionSummary batchSizeSummary;
+
+  // enqueue는 읽기 잠금, stop은 쓰기 잠금 (종료 표시 이후에는 큐에 들어오는 기록이 없도록 보장)
+  private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public TradeJournal(
+      TradeJdbcRepository tradeJdbcRepository,
+      TradeIdAllocator tradeIdAllocator,
+      TradeDeadLetterFile deadLetterFile,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.trade.journal.queue-capacity:10000}") int queueCapacity,
+      @Value("${app.trade.journal.batch-size:200}") int batchSize,
+      @Value("${app.trade.journal.flush-interval-ms:20}") long flushIntervalMillis,
+      @Value("${app.trade.journal.offer-timeout-ms:50}") long offerTimeoutMillis,
+      @Value("${app.trade.journal.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+    this.tradeJdbcRepository = tradeJdbcRepository;
+    this.tradeIdAllocator = tradeIdAllocator;
+    this.deadLetterFile = deadLetterFile;
+    // 주문 트랜잭션의 afterCommit에서도 호출되므로 항상 새 트랜잭션(새 커넥션)으로 저장
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+    Gauge.builder("trade.journal.queue.size", queue, BlockingQueue::size)
+        .description("저장 대기 중인 거래 기록 수")
+        .register(meterRegistry);
+    Gauge.builder("trade.journal.queue.remaining", queue, BlockingQueue::remainingCapacity)
+        .description("거래 저널 큐 잔여 용량")
+        .register(meterRegistry);
+    this.enqueuedCounter = meterRegistry.counter("trade.journal.enqueued");
+    this.flushedCounter = meterRegistry.counter("trade.journal.flushed");
+    this.fallbackCounter = meterRegistry.counter("trade.journal.sync.fallback");
+    this.deadLetterCounter = meterRegistry.counter("trade.journal.dead.letter");
+    this.failedCounter = meterRegistry.counter("trade.journal.failed");
+    this.flushTimer = meterRegistry.timer("trade.journal.flush");
+    this.offerWaitTimer = meterRegistry.timer("trade.journal.offer.wait");
+    this.batchSizeSummary = meterRegistry.summary("trade.journal.batch.size");
+  }
+
+  /**
+   * 거래 기록 추가
+   *
+   * <p>ID와 체결 시각을 즉시 할당해 반환하고, 실제 저장은 현재 트랜잭션이 커밋된 뒤 비동기로 수행한다. 트랜잭션이 롤백되면 기록도 버려진다.
+   */
+  public TradeJournalEntry append(
+      UUID userId,
+      UUID accountId,
+      Long stockId,
+      TradeType tradeType,
+      Integer quantity,
+      Money price) {
+    TradeJournalEntry entry =
+        TradeJournalEntry.builder()
+            .id(tradeIdAllocator.nextId())
+            .userId(userId)
+            .accountId(accountId)
+            .stockId(stockId)
+            .tradeType(tradeType)
+            .quantity(quantity)
+            .price(price)
+            .status(TradeStatus.COMPLETED)
+            .timestamp(LocalDateTime.now())
+            .build();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              enqueue(entry);
+            }
+          });
+    } else {
+      enqueue(entry);
+    }
+    return entry;
+  }
+
+  private void enqueue(TradeJournalEntry entry) {
+    boolean queued;
+    stateLock.readLock().lock();
+    try {
+      queued = running && offer(entry);
+    } finally {
+      stateLock.readLock().unlock();
+    }
+    if (!queued) {
+      writeSynchronously(entry);
+    }
+  }
+
+  /** 큐에 추가 (가득 차면 잠시 대기), 실패하면 false */
+  private boolean offer(TradeJournalEntry entry) {
+    if (queue.offer(entry)) {
+      enqueuedCounter.increment();
+      return true;
+    }
+
+    // 큐가 가득 찬 경우: 잠시 대기 후 재시도, 실패 시 동기 저장
+    boolean accepted;
+    long start = System.nanoTime();
+    try {
+      accepted = queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      accepted = false;
+    } finally {
+      offerWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    if (accepted) {
+      enqueuedCounter.increment();
+    } else {
+      log.warn("거래 저널 큐 포화 - 동기 저장으로 전환: 거래 ID {}", entry.getId());
+    }
+    return accepted;
+  }
+
+  private void writeSynchronously(TradeJournalEntry entry) {
+    fallbackCounter.increment();
+    flush(List.of(entry));
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    flusher = new Thread(this::runFlusher, "trade-journal-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info(
+        "거래 저널 시작 - 큐 용량: {}, 배치 크기: {}, flush 주기: {}ms",
+        queue.remainingCapacity(),
+        batchSize,
+        flushIntervalMillis);
+  }
+
+  @Override
+  public void stop() {
+    // 진행 중인 enqueue가 끝난 뒤 종료 표시 (이후 기록은 동기 저장되므로 아래 drain에서 빠지는 기록이 없음)
+    stateLock.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      stateLock.writeLock().unlock();
+    }
+    Thread thread = flusher;
+    if (thread != null) {
+      try {
+        thread.join(shutdownTimeoutMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    // flusher가 시간 내 끝나지 못한 경우 남은 기록을 현재 스레드에서 저장
+    List<TradeJournalEntry> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      log.warn("거래 저널 종료 중 미저장 기록 {}건을 직접 저장합니다.", remaining.size());
+      for (int from = 0; from < remaining.size(); from += batchSize) {
+        flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+      }
+    }
+    log.info("거래 저널 종료");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /** 웹 서버가 요청 처리를 마친 뒤에 종료되도록 웹 서버 라이프사이클보다 낮은 단계 사용 */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private void runFlusher() {
+    List<TradeJournalEntry> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        collectBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  /** 첫 기록을 기다린 뒤 flush 주기 동안 또는 배치 크기까지 모은다 */
+  private void collectBatch(List<TradeJournalEntry> batch) throws InterruptedException {
+    TradeJournalEntry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remainingNanos = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remainingNanos <= 0 || !running) {
+        return;
+      }
+      TradeJournalEntry next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  /** 배치 저장 (한 트랜잭션), 재시도 후에도 실패하면 건별 저장으로 실패 건만 격리해 보관 파일에 기록 */
+  private void flush(List<TradeJournalEntry> batch) {
+    for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+      long start = System.nanoTime();
+      try {
+        transactionTemplate.executeWithoutResult(status -> tradeJdbcRepository.batchInsert(batch));
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+        flushedCounter.increment(batch.size());
+        return;
+      } catch (RuntimeException e) {
+        log.warn(
+            "거래 기록 배치 저장 실패 ({}/{}) - {}건: {}",
+            attempt,
+            MAX_FLUSH_ATTEMPTS,
+            batch.size(),
+            e.getMessage());
+        if (!sleepBeforeRetry(attempt)) {
+          break;
+        }
+      }
+    }
+
+    for (TradeJournalEntry entry : batch) {
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> tradeJdbcRepository.batchInsert(List.of(entry)));
+        flushedCounter.increment();
+      } catch (RuntimeException e) {
+        if (deadLetterFile.append(entry, e.getMessage())) {
+          deadLetterCounter.increment();
+          log.error("거래 기록 저장 실패 - 보관 파일 {}에 기록: {}", deadLetterFile.getPath(), entry, e);
+        } else {
+          failedCounter.increment();
+          log.error("거래 기록 저장 실패 - {}", entry, e);
+        }
+      }
+    }
+  }
+
+  private boolean sleepBeforeRetry(int attempt) {
+    try {
+      Thread.sleep(100L * attempt);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
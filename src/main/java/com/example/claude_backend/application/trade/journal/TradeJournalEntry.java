@@ -0,0 +1,39 @@
+package com.example.claude_backend.application.trade.journal;
+
+import com.example.claude_backend.domain.common.Money;
+import com.example.claude_backend.domain.trade.entity.Trade.TradeStatus;
+import com.example.claude_backend.domain.trade.entity.Trade.TradeType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 거래 저널에 기록되는 거래 한 건 (trades 테이블 한 행)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class TradeJournalEntry {
+
+  private final Long id;
+  private final UUID userId;
+  private final UUID accountId;
+  private final Long stockId;
+  private final Money price;
+  private final Integer quantity;
+  private final TradeType tradeType;
+  private final TradeStatus status;
+  private final LocalDateTime timestamp;
+
+  /** 거래 총액 계산 */
+  public Money getTotalAmount() {
+    return price.times(quantity);
+  }
+}
@@ -0,0 +1,232 @@
+package com.example.claude_backend.application.trade.portfolio;
+
+import com.example.claude_backend.application.stock.master.StockRef;
+import com.example.claude_backend.application.stock.quote.PriceBook;
+import com.example.claude_backend.common.config.NodeIdentity;
+import com.example.claude_backend.domain.common.Money;
+import com.example.claude_backend.domain.stock.entity.Stock;
+import com.example.claude_backend.domain.user.entity.UserStock;
+import com.example.claude_backend.domain.user.repository.UserStockRepository;
+import com.example.claude_backend.domain.user.repository.UserStockRepository.HoldingSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 포트폴리오 평가 엔진
+ *
+ * <p>사용자별 보유 주식 집계를 메모리에 유지한다. 처음 조회할 때 한 번 DB에서 로드하고, 이후에는 체결(커밋 후)과 시세 변경 시 해당 종목만 증분 반영하므로 조회는
+ * DB 접근 없이 마지막 스냅샷을 반환한다.
+ *
+ * <p>체결을 반영한 뒤 Redis 채널로 다른 노드에 알리며, 다른 노드는 해당 사용자를 캐시에서 제거해 다음 조회 때 DB에서 다시 로드한다. 메시지가 유실되더라도 마지막
+ * 갱신 후 {@code ttl-minutes}가 지나면 다시 로드된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class PortfolioEngine {
+
+  /** 포트폴리오 무효화 채널 (메시지 본문: {@code {userId}/{발행 노드 ID}}) */
+  public static final String INVALIDATION_CHANNEL = "trade.portfolio.invalidate";
+
+  private final UserStockRepository userStockRepository;
+  private final PriceBook priceBook;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final String nodeId;
+  private final Cache<UUID, UserPortfolio> portfolios;
+
+  /** 종목 코드 → 해당 종목을 보유한 로드된 포트폴리오 */
+  private final Map<String, Set<UserPortfolio>> holdersByTicker = new ConcurrentHashMap<>();
+
+  public PortfolioEngine(
+      UserStockRepository userStockRepository,
+      PriceBook priceBook,
+      StringRedisTemplate stringRedisTemplate,
+      NodeIdentity nodeIdentity,
+      @Value("${app.trade.portfolio.max-users:10000}") long maxUsers,
+      @Value("${app.trade.portfolio.ttl-minutes:30}") long ttlMinutes) {
+    this.userStockRepository = userStockRepository;
+    this.priceBook = priceBook;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.nodeId = nodeIdentity.getId();
+    this.portfolios =
+        Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .<UUID, UserPortfolio>removalListener(
+                (userId, portfolio, cause) -> {
+                  if (portfolio != null) {
+                    unindex(portfolio);
+                  }
+                })
+            .build();
+  }
+
+  /** 사용자 보유 주식 집계 조회 (처음 조회 시에만 DB에서 로드) */
+  public PortfolioSnapshot getPortfolio(UUID userId) {
+    return portfolios.get(userId, this::load).snapshot();
+  }
+
+  /**
+   * 체결로 바뀐 보유 수량/평균단가 반영
+   *
+   * <p>현재 트랜잭션이 커밋된 뒤 로드된 포트폴리오에만 반영하고 다른 노드에 무효화를 알린다. 로드 중인 사용자면 로드가 끝날 때까지 기다렸다가 반영하므로 갱신이 누락되지
+   * 않는다.
+   */
+  public void onHoldingChanged(UUID userId, StockRef stock, HoldingSnapshot holding) {
+    String ticker = stock.getTicker();
+    String stockName = stock.getName();
+    long quantity = holding.getQuantity() != null ? holding.getQuantity() : 0L;
+    Money averagePrice =
+        holding.getAveragePrice() != null ? Money.of(holding.getAveragePrice()) : Money.ZERO;
+    BigDecimal fallbackPrice = stock.getReferencePrice();
+
+    Runnable apply =
+        () -> {
+          portfolios
+              .asMap()
+              .computeIfPresent(
+                  userId,
+                  (id, portfolio) -> {
+                    applyHolding(
+                        portfolio, ticker, stockName, quantity, averagePrice, fallbackPrice);
+                    return portfolio;
+                  });
+          publishInvalidation(userId);
+        };
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              apply.run();
+            }
+          });
+    } else {
+      apply.run();
+    }
+  }
+
+  /** 시세 변경 반영 (해당 종목을 보유한 로드된 포트폴리오만) */
+  public void onPriceChanged(String ticker) {
+    Set<UserPortfolio> holders = holdersByTicker.get(ticker);
+    if (holders == null) {
+      return;
+    }
+    for (UserPortfolio portfolio : holders) {
+      portfolio.applyPrice(ticker, priceBook::lastPriceUnits);
+    }
+  }
+
+  /** 로드된 사용자 포트폴리오 제거 */
+  public void evict(UUID userId) {
+    portfolios.invalidate(userId);
+  }
+
+  /**
+   * 다른 노드의 무효화 메시지 반영 (현재 노드가 발행한 메시지는 무시)
+   *
+   * @param body {@code {userId}/{발행 노드 ID}}
+   * @throws IllegalArgumentException 형식이 잘못되었을 때
+   */
+  public void onInvalidation(String body) {
+    int separator = body.indexOf('/');
+    if (separator < 0) {
+      throw new IllegalArgumentException("노드 ID가 없습니다: " + body);
+    }
+    UUID userId = UUID.fromString(body.substring(0, separator));
+    if (!nodeId.equals(body.substring(separator + 1))) {
+      evict(userId);
+    }
+  }
+
+  private void publishInvalidation(UUID userId) {
+    try {
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + "/" + nodeId);
+    } catch (RuntimeException e) {
+      log.warn("포트폴리오 무효화 전파 실패 - 사용자: {}, 원인: {}", userId, e.getMessage());
+    }
+  }
+
+  private UserPortfolio load(UUID userId) {
+    UserPortfolio portfolio = new UserPortfolio();
+    for (UserStock userStock : userStockRepository.findWithStockByUserId(userId)) {
+      Stock stock = userStock.getStock();
+      applyHolding(
+          portfolio,
+          stock.getTicker(),
+          stock.getName(),
+          userStock.getQuantity(),
+          userStock.getAveragePrice() != null ? userStock.getAveragePrice() : Money.ZERO,
+          stock.getCurrentPrice());
+    }
+    log.debug("포트폴리오 로드 - 사용자: {}, 종목 수: {}", userId, portfolio.tickers().size());
+    return portfolio;
+  }
+
+  /**
+   * 보유 내역 반영 및 종목 색인 갱신
+   *
+   * <p>시세 반영이 빠지지 않도록 색인에 먼저 등록한 뒤 보유 내역을 반영하고, 그 사이에 바뀐 시세를 한 번 더 읽는다.
+   */
+  private void applyHolding(
+      UserPortfolio portfolio,
+      String ticker,
+      String stockName,
+      long quantity,
+      Money averagePrice,
+      BigDecimal fallbackPrice) {
+    if (quantity > 0) {
+      index(ticker, portfolio);
+    }
+
+    long priceUnits = priceBook.lastPriceUnits(ticker);
+    if (priceUnits <= 0 && fallbackPrice != null && fallbackPrice.signum() > 0) {
+      priceUnits = Money.of(fallbackPrice).getUnits();
+    }
+    boolean changed = portfolio.applyHolding(ticker, stockName, quantity, averagePrice, priceUnits);
+
+    if (quantity > 0) {
+      portfolio.applyPrice(ticker, priceBook::lastPriceUnits);
+    } else if (changed) {
+      unindex(ticker, portfolio);
+    }
+  }
+
+  private void index(String ticker, UserPortfolio portfolio) {
+    holdersByTicker.compute(
+        ticker,
+        (key, holders) -> {
+          Set<UserPortfolio> set = holders != null ? holders : ConcurrentHashMap.newKeySet();
+          set.add(portfolio);
+          return set;
+        });
+  }
+
+  private void unindex(String ticker, UserPortfolio portfolio) {
+    holdersByTicker.computeIfPresent(
+        ticker,
+        (key, holders) -> {
+          holders.remove(portfolio);
+          return holders.isEmpty() ? null : holders;
+        });
+  }
+
+  private void unindex(UserPortfolio portfolio) {
+    portfolio.tickers().forEach(ticker -> unindex(ticker, portfolio));
+  }
+}
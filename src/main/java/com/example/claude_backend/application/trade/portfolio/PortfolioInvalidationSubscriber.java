@@ -0,0 +1,48 @@
+package com.example.claude_backend.application.trade.portfolio;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발행한 포트폴리오 무효화 메시지 수신
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioInvalidationSubscriber implements MessageListener {
+
+  private final PortfolioEngine portfolioEngine;
+  private final RedisMessageListenerContainer container;
+
+  /** 시작 후 채널 구독 (Redis에 연결할 수 없으면 TTL 만료만 사용) */
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    try {
+      container.addMessageListener(this, new ChannelTopic(PortfolioEngine.INVALIDATION_CHANNEL));
+      log.info("포트폴리오 무효화 채널 구독 완료");
+    } catch (RuntimeException e) {
+      log.warn("포트폴리오 무효화 채널 구독 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      portfolioEngine.onInvalidation(body);
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 포트폴리오 무효화 메시지: {}", body);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.claude_backend.application.trade.portfolio;
+
+import com.example.claude_backend.application.trade.dto.PortfolioItemResponse;
+import com.example.claude_backend.domain.common.Money;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 보유 주식 집계 스냅샷 (불변, 현금 잔고 제외)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@Builder
+public class PortfolioSnapshot {
+  private final Money totalStockValue; // 총 주식 평가금액
+  private final BigDecimal totalProfitLoss; // 총 손익
+  private final BigDecimal totalProfitLossRate; // 총 손익률
+  private final List<PortfolioItemResponse> items; // 보유 주식 목록
+}
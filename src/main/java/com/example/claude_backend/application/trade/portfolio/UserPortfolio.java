@@ -0,0 +1,157 @@
+package com.example.claude_backend.application.trade.portfolio;
+
+import com.example.claude_backend.application.trade.dto.PortfolioItemResponse;
+import com.example.claude_backend.domain.common.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * 사용자별 포트폴리오 집계 (가변 객체)
+ *
+ * <p>종목별 보유 수량, 매입금액, 평가금액과 그 합계를 1/100원 단위 long으로 유지한다. 체결/시세 변경 시 해당 종목의 차액만 합계에 반영하며, 조회용 스냅샷은
+ * 변경이 있을 때만 다시 만든다. 모든 메서드는 사용자 단위로 동기화된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+final class UserPortfolio {
+
+  private final Map<String, Position> positions = new LinkedHashMap<>();
+
+  private long totalCostUnits;
+  private long totalMarketUnits;
+  private PortfolioSnapshot snapshot;
+
+  synchronized Set<String> tickers() {
+    return Set.copyOf(positions.keySet());
+  }
+
+  /**
+   * 보유 수량/평균단가 반영 (체결 후 DB가 돌려준 값 그대로)
+   *
+   * @return 종목 보유 여부가 바뀌었으면 true (추가 또는 전량 매도)
+   */
+  synchronized boolean applyHolding(
+      String ticker, String stockName, long quantity, Money averagePrice, long fallbackPriceUnits) {
+    Position position = positions.get(ticker);
+    if (quantity <= 0) {
+      if (position == null) {
+        return false;
+      }
+      totalCostUnits -= position.costUnits;
+      totalMarketUnits -= position.marketUnits;
+      positions.remove(ticker);
+      snapshot = null;
+      return true;
+    }
+
+    boolean added = position == null;
+    if (added) {
+      position = new Position(ticker, stockName);
+      position.priceUnits = fallbackPriceUnits;
+      positions.put(ticker, position);
+    }
+    totalCostUnits -= position.costUnits;
+    totalMarketUnits -= position.marketUnits;
+
+    position.quantity = quantity;
+    position.averagePrice = averagePrice;
+    position.costUnits = averagePrice.times(quantity).getUnits();
+    if (position.priceUnits <= 0) {
+      position.priceUnits = averagePrice.getUnits();
+    }
+    position.marketUnits = position.priceUnits * quantity;
+
+    totalCostUnits += position.costUnits;
+    totalMarketUnits += position.marketUnits;
+    snapshot = null;
+    return added;
+  }
+
+  /** 현재가 변경 반영 (가격이 0 이하이면 무시) */
+  synchronized void applyPrice(String ticker, ToLongFunction<String> priceUnits) {
+    Position position = positions.get(ticker);
+    if (position == null) {
+      return;
+    }
+    long price = priceUnits.applyAsLong(ticker);
+    if (price <= 0 || price == position.priceUnits) {
+      return;
+    }
+    long marketUnits = price * position.quantity;
+    totalMarketUnits += marketUnits - position.marketUnits;
+    position.priceUnits = price;
+    position.marketUnits = marketUnits;
+    snapshot = null;
+  }
+
+  /** 조회용 스냅샷 (변경이 없으면 이전 스냅샷 재사용) */
+  synchronized PortfolioSnapshot snapshot() {
+    if (snapshot == null) {
+      snapshot = buildSnapshot();
+    }
+    return snapshot;
+  }
+
+  private PortfolioSnapshot buildSnapshot() {
+    List<PortfolioItemResponse> items = new ArrayList<>(positions.size());
+    for (Position position : positions.values()) {
+      long profitLossUnits = position.marketUnits - position.costUnits;
+      items.add(
+          PortfolioItemResponse.builder()
+              .stockCode(position.ticker)
+              .stockName(position.stockName)
+              .quantity(position.quantity)
+              .averagePrice(position.averagePrice.toBigDecimal())
+              .currentPrice(toPrice(position.priceUnits))
+              .totalValue(toPrice(position.marketUnits))
+              .profitLoss(toPrice(profitLossUnits))
+              .profitLossRate(rate(profitLossUnits, position.costUnits))
+              .build());
+    }
+
+    long totalProfitLossUnits = totalMarketUnits - totalCostUnits;
+    return PortfolioSnapshot.builder()
+        .totalStockValue(Money.ofUnits(totalMarketUnits))
+        .totalProfitLoss(toPrice(totalProfitLossUnits))
+        .totalProfitLossRate(rate(totalProfitLossUnits, totalCostUnits))
+        .items(List.copyOf(items))
+        .build();
+  }
+
+  /** 손익률(%) - 소수점 4자리에서 반올림한 비율에 100을 곱한 값 (기존 계산과 동일) */
+  private static BigDecimal rate(long profitLossUnits, long costUnits) {
+    if (costUnits <= 0) {
+      return BigDecimal.ZERO;
+    }
+    return BigDecimal.valueOf(profitLossUnits)
+        .divide(BigDecimal.valueOf(costUnits), 4, RoundingMode.HALF_UP)
+        .multiply(BigDecimal.valueOf(100));
+  }
+
+  private static BigDecimal toPrice(long units) {
+    return Money.ofUnits(units).toBigDecimal();
+  }
+
+  /** 종목별 보유 내역 */
+  private static final class Position {
+    private final String ticker;
+    private final String stockName;
+    private long quantity;
+    private Money averagePrice;
+    private long costUnits;
+    private long priceUnits;
+    private long marketUnits;
+
+    private Position(String ticker, String stockName) {
+      this.ticker = ticker;
+      this.stockName = stockName;
+    }
+  }
+}
@@ -1,12 +1,19 @@
 package com.example.claude_backend.application.trade.service;
 
 import com.example.claude_backend.application.account.service.AccountService;
-import com.example.claude_backend.application.trade.dto.PortfolioItemResponse;
+import com.example.claude_backend.application.stock.master.StockDirectory;
+import com.example.claude_backend.application.stock.master.StockRef;
 import com.example.claude_backend.application.trade.dto.PortfolioResponse;
 import com.example.claude_backend.application.trade.dto.TradeRequest;
 import com.example.claude_backend.application.trade.dto.TradeResponse;
+import com.example.claude_backend.application.trade.journal.TradeJournal;
+import com.example.claude_backend.application.trade.journal.TradeJournalEntry;
+import com.example.claude_backend.application.trade.portfolio.PortfolioEngine;
+import com.example.claude_backend.application.trade.portfolio.PortfolioSnapshot;
 import com.example.claude_backend.domain.account.entity.Account;
 import com.example.claude_backend.domain.account.exception.InsufficientBalanceException;
+import com.example.claude_backend.domain.account.repository.AccountRepository;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.stock.entity.Stock;
 import com.example.claude_backend.domain.stock.exception.StockNotFoundException;
 import com.example.claude_backend.domain.stock.repository.StockRepository;
@@ -14,11 +21,10 @@ import com.example.claude_backend.domain.trade.entity.Trade;
 import com.example.claude_backend.domain.trade.entity.Trade.TradeType;
 import com.example.claude_backend.domain.trade.repository.TradeRepository;
 import com.example.claude_backend.domain.user.entity.User;
-import com.example.claude_backend.domain.user.entity.UserStock;
 import com.example.claude_backend.domain.user.exception.UserNotFoundException;
 import com.example.claude_backend.domain.user.repository.UserRepository;
 import com.example.claude_backend.domain.user.repository.UserStockRepository;
-import java.math.BigDecimal;
+import com.example.claude_backend.domain.user.repository.UserStockRepository.HoldingSnapshot;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,10 +41,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TradeServiceImpl implements TradeService {
 
+  /** 매도 수익 100원당 도토리 1개 */
+  private static final Money ACORN_PROFIT_UNIT = Money.won(100);
+
   private final TradeRepository tradeRepository;
+  private final TradeJournal tradeJournal;
+  private final PortfolioEngine portfolioEngine;
   private final StockRepository stockRepository;
+  private final StockDirectory stockDirectory;
   private final UserRepository userRepository;
   private final UserStockRepository userStockRepository;
+  private final AccountRepository accountRepository;
   private final AccountService accountService;
 
   @Override
@@ -51,87 +64,68 @@ public class TradeServiceImpl implements TradeService {
         request.getQuantity(),
         request.getPrice());
 
-    // 1. 사용자 조회
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-    // 2. 프론트엔드에서 전달받은 주식 정보로 Stock 엔티티 생성 또는 조회
-    Stock stock = getOrCreateStock(request.getStockCode(), request.getStockName());
+    if (request.getQuantity() == null || request.getQuantity() <= 0) {
+      throw new IllegalArgumentException("거래 수량은 1 이상이어야 합니다.");
+    }
+    if (request.getPrice() == null || request.getPrice() <= 0) {
+      throw new IllegalArgumentException("거래 가격은 0보다 커야 합니다.");
+    }
 
-    // 3. 계좌 조회
-    Account account = accountService.getUserAccount(userId);
+    // 1. 종목 참조 캐시에서 조회 (종목 마스터에 없는 종목은 거래 불가, 주문 경로에서 stocks 테이블에 쓰지 않음)
+    StockRef stock = stockDirectory.get(request.getStockCode());
 
-    // 4. 거래 타입 결정
+    // 2. 거래 타입 결정
     TradeType tradeType = "BUY".equals(request.getTradeType()) ? TradeType.BUY : TradeType.SELL;
 
-    // 5. 거래 실행
+    // 3. 거래 실행 (계좌/보유 주식은 엔티티 조회 없이 조건부 UPDATE/UPSERT로 처리)
     if (tradeType == TradeType.BUY) {
-      return executeBuyTrade(user, account, stock, request);
+      return executeBuyTrade(userId, stock, request);
     } else {
-      return executeSellTrade(user, account, stock, request);
+      return executeSellTrade(userId, stock, request);
     }
   }
 
-  /** 주식 코드로 주식을 조회하거나, 없으면 새로 생성 */
-  private Stock getOrCreateStock(String stockCode, String stockName) {
-    return stockRepository
-        .findByTicker(stockCode)
-        .orElseGet(
-            () -> {
-              // 주식이 없으면 새로 생성
-              Stock newStock =
-                  Stock.builder()
-                      .ticker(stockCode)
-                      .name(stockName != null ? stockName : stockCode)
-                      .currentPrice(BigDecimal.ZERO) // 거래 시점의 가격은 request에서 받음
-                      .per(BigDecimal.ZERO)
-                      .pbr(BigDecimal.ZERO)
-                      .build();
-              return stockRepository.save(newStock);
-            });
-  }
-
-  private TradeResponse executeBuyTrade(
-      User user, Account account, Stock stock, TradeRequest request) {
-    BigDecimal totalAmount =
-        BigDecimal.valueOf(request.getPrice()).multiply(BigDecimal.valueOf(request.getQuantity()));
-
-    // 잔액 확인
-    if (account.getBalance().compareTo(totalAmount) < 0) {
-      throw new InsufficientBalanceException(
-          "잔액이 부족합니다. 필요: " + totalAmount + ", 보유: " + account.getBalance());
-    }
-
-    // 1. 계좌에서 금액 차감
-    accountService.withdraw(user.getId(), totalAmount.doubleValue());
-
-    // 2. 사용자 보유 주식 업데이트
-    updateUserStock(
-        user, stock, request.getQuantity(), true, BigDecimal.valueOf(request.getPrice()));
+  /**
+   * 매수 체결
+   *
+   * <p>잔액 차감(UPDATE ... WHERE balance >= ?), 보유 주식 upsert(INSERT ... ON CONFLICT)의 2개 문장으로 처리하고, 거래
+   * 기록은 커밋 후 거래 저널이 배치로 저장한다.
+   */
+  private TradeResponse executeBuyTrade(UUID userId, StockRef stock, TradeRequest request) {
+    Money price = Money.of(request.getPrice());
+    Money totalAmount = price.times(request.getQuantity());
+
+    // 1. 잔액이 충분할 때만 계좌에서 금액 차감 (SQL 파라미터만 BigDecimal)
+    UUID accountId =
+        accountRepository
+            .debitBalanceIfSufficient(userId, totalAmount.toBigDecimal())
+            .orElseThrow(() -> debitFailure(userId, totalAmount));
+
+    // 2. 사용자 보유 주식 upsert (평균단가는 DB에서 계산)
+    HoldingSnapshot holding =
+        userStockRepository.upsertOnBuy(
+            UUID.randomUUID(), userId, stock.getId(), request.getQuantity(), price.toBigDecimal());
+    log.info(
+        "사용자 보유 주식 업데이트 완료 - 사용자: {}, 종목: {}, 수량: {}",
+        userId,
+        stock.getTicker(),
+        holding.getQuantity());
+    portfolioEngine.onHoldingChanged(userId, stock, holding);
 
     // 3. 거래 기록 저장
-    Trade trade =
-        Trade.createTrade(
-            user,
-            account,
-            stock,
-            TradeType.BUY,
-            request.getQuantity(),
-            BigDecimal.valueOf(request.getPrice()));
-    Trade savedTrade = tradeRepository.save(trade);
+    TradeJournalEntry savedTrade =
+        saveTrade(userId, accountId, stock, TradeType.BUY, request, price);
 
     log.info("매수 거래 완료 - 거래 ID: {}, 총액: {}", savedTrade.getId(), totalAmount);
 
     // 4. 매수 거래는 수익과 도토리가 없으므로 0으로 설정
     return TradeResponse.builder()
         .tradeId(savedTrade.getId())
-        .stockCode(savedTrade.getStock().getTicker())
-        .stockName(savedTrade.getStock().getName())
+        .stockCode(stock.getTicker())
+        .stockName(stock.getName())
         .quantity(savedTrade.getQuantity())
-        .price(savedTrade.getPrice().doubleValue())
-        .totalAmount(savedTrade.getTotalAmount().doubleValue())
+        .price(savedTrade.getPrice().toDouble())
+        .totalAmount(savedTrade.getTotalAmount().toDouble())
         .tradeType(savedTrade.getTradeType().name())
         .tradeDate(savedTrade.getTimestamp())
         .status(savedTrade.getStatus().name())
@@ -140,124 +134,104 @@ public class TradeServiceImpl implements TradeService {
         .build();
   }
 
-  private TradeResponse executeSellTrade(
-      User user, Account account, Stock stock, TradeRequest request) {
-    BigDecimal totalAmount =
-        BigDecimal.valueOf(request.getPrice()).multiply(BigDecimal.valueOf(request.getQuantity()));
-
-    // 보유 주식 확인
-    UserStock userStock =
+  /**
+   * 매도 체결
+   *
+   * <p>보유 수량 차감(UPDATE ... WHERE quantity >= ?), 잔액/도토리 증가의 2개 문장으로 처리한다. 전량 매도된 경우에만 보유 주식 삭제 문장이
+   * 추가되며, 거래 기록은 커밋 후 거래 저널이 배치로 저장한다.
+   */
+  private TradeResponse executeSellTrade(UUID userId, StockRef stock, TradeRequest request) {
+    Money sellPrice = Money.of(request.getPrice());
+    Money totalAmount = sellPrice.times(request.getQuantity());
+
+    // 1. 보유 수량이 충분할 때만 차감
+    HoldingSnapshot holding =
         userStockRepository
-            .findByUserAndStock(user, stock)
-            .orElseThrow(() -> new RuntimeException("보유한 주식이 없습니다."));
-
-    if (userStock.getQuantity() < request.getQuantity()) {
-      throw new RuntimeException(
-          "보유한 주식 수량이 부족합니다. 보유: " + userStock.getQuantity() + ", 매도: " + request.getQuantity());
-    }
+            .decreaseHoldingIfSufficient(userId, stock.getId(), request.getQuantity())
+            .orElseThrow(() -> holdingFailure(userId, stock, request.getQuantity()));
 
     // 수익 계산
-    BigDecimal averagePrice = userStock.getAveragePrice();
-    BigDecimal sellPrice = BigDecimal.valueOf(request.getPrice());
-    BigDecimal profitPerShare = sellPrice.subtract(averagePrice);
-    BigDecimal totalProfit = profitPerShare.multiply(BigDecimal.valueOf(request.getQuantity()));
-
-    // 1. 계좌에 금액 추가
-    accountService.deposit(user.getId(), totalAmount.doubleValue());
+    Money averagePrice =
+        holding.getAveragePrice() != null ? Money.of(holding.getAveragePrice()) : Money.ZERO;
+    Money totalProfit = sellPrice.minus(averagePrice).times(request.getQuantity());
 
     // 2. 수익이 발생한 경우 도토리 지급 (100원당 1개)
-    Integer acornReward = 0;
-    if (totalProfit.compareTo(BigDecimal.ZERO) > 0) {
-      acornReward =
-          totalProfit.divide(BigDecimal.valueOf(100), 0, BigDecimal.ROUND_DOWN).intValue();
-      if (acornReward > 0) {
-        accountService.addAcorn(user.getId(), acornReward);
-        log.info(
-            "매도 수익으로 도토리 지급 - 사용자: {}, 수익: {}, 지급 도토리: {}", user.getId(), totalProfit, acornReward);
-      }
+    int acornReward = 0;
+    if (totalProfit.isPositive()) {
+      acornReward = Math.toIntExact(totalProfit.quotient(ACORN_PROFIT_UNIT));
     }
 
-    // 3. 사용자 보유 주식 업데이트
-    updateUserStock(user, stock, request.getQuantity(), false, null);
+    // 3. 계좌에 매도 금액과 도토리를 한 번에 추가
+    UUID accountId =
+        accountRepository
+            .creditBalance(userId, totalAmount.toBigDecimal(), acornReward)
+            .orElseThrow(() -> new IllegalArgumentException("사용자 계좌를 찾을 수 없습니다: " + userId));
+    if (acornReward > 0) {
+      log.info("매도 수익으로 도토리 지급 - 사용자: {}, 수익: {}, 지급 도토리: {}", userId, totalProfit, acornReward);
+    }
 
-    // 4. 거래 기록 저장
-    Trade trade =
-        Trade.createTrade(
-            user,
-            account,
-            stock,
-            TradeType.SELL,
-            request.getQuantity(),
-            BigDecimal.valueOf(request.getPrice()));
-    Trade savedTrade = tradeRepository.save(trade);
+    // 4. 전량 매도된 경우 보유 주식 삭제
+    if (holding.getQuantity() == 0) {
+      userStockRepository.deleteEmptyHolding(userId, stock.getId());
+    }
+    log.info(
+        "사용자 보유 주식 업데이트 완료 - 사용자: {}, 종목: {}, 수량: {}",
+        userId,
+        stock.getTicker(),
+        holding.getQuantity());
+    portfolioEngine.onHoldingChanged(userId, stock, holding);
+
+    // 5. 거래 기록 저장
+    TradeJournalEntry savedTrade =
+        saveTrade(userId, accountId, stock, TradeType.SELL, request, sellPrice);
 
     log.info("매도 거래 완료 - 거래 ID: {}, 총액: {}, 수익: {}", savedTrade.getId(), totalAmount, totalProfit);
 
-    // 5. 수익과 도토리 정보를 포함한 응답 반환
+    // 6. 수익과 도토리 정보를 포함한 응답 반환
     return TradeResponse.builder()
         .tradeId(savedTrade.getId())
-        .stockCode(savedTrade.getStock().getTicker())
-        .stockName(savedTrade.getStock().getName())
+        .stockCode(stock.getTicker())
+        .stockName(stock.getName())
         .quantity(savedTrade.getQuantity())
-        .price(savedTrade.getPrice().doubleValue())
-        .totalAmount(savedTrade.getTotalAmount().doubleValue())
+        .price(savedTrade.getPrice().toDouble())
+        .totalAmount(savedTrade.getTotalAmount().toDouble())
         .tradeType(savedTrade.getTradeType().name())
         .tradeDate(savedTrade.getTimestamp())
         .status(savedTrade.getStatus().name())
-        .profit(totalProfit.doubleValue())
+        .profit(totalProfit.toDouble())
         .acornReward(acornReward)
         .build();
   }
 
-  private void updateUserStock(
-      User user, Stock stock, Integer quantity, boolean isBuy, BigDecimal price) {
-    UserStock userStock =
-        userStockRepository
-            .findByUserAndStock(user, stock)
-            .orElse(
-                UserStock.builder()
-                    .user(user)
-                    .stock(stock)
-                    .quantity(0L)
-                    .averagePrice(BigDecimal.ZERO)
-                    .build());
-
-    if (isBuy) {
-      // 매수: 수량 증가, 평균단가 계산
-      long newQuantity = userStock.getQuantity() + quantity;
-      BigDecimal newAveragePrice;
-
-      if (userStock.getQuantity() == 0) {
-        newAveragePrice = price;
-      } else {
-        BigDecimal totalCost =
-            userStock
-                .getAveragePrice()
-                .multiply(BigDecimal.valueOf(userStock.getQuantity()))
-                .add(price.multiply(BigDecimal.valueOf(quantity)));
-        newAveragePrice =
-            totalCost.divide(BigDecimal.valueOf(newQuantity), 2, BigDecimal.ROUND_HALF_UP);
-      }
-
-      userStock.setQuantity(newQuantity);
-      userStock.setAveragePrice(newAveragePrice);
-    } else {
-      // 매도: 수량 감소
-      long newQuantity = userStock.getQuantity() - quantity;
-      if (newQuantity <= 0) {
-        // 수량이 0 이하면 삭제
-        userStockRepository.delete(userStock);
-        return;
-      }
-      userStock.setQuantity(newQuantity);
+  /** 거래 기록을 저널에 추가 (저장은 커밋 후 비동기 배치로 수행) */
+  private TradeJournalEntry saveTrade(
+      UUID userId,
+      UUID accountId,
+      StockRef stock,
+      TradeType tradeType,
+      TradeRequest request,
+      Money price) {
+    return tradeJournal.append(
+        userId, accountId, stock.getId(), tradeType, request.getQuantity(), price);
+  }
+
+  /** 잔액 차감 실패 원인 판별 (실패 경로에서만 추가 조회) */
+  private RuntimeException debitFailure(UUID userId, Money totalAmount) {
+    if (!accountRepository.existsByUserId(userId)) {
+      return new IllegalArgumentException("사용자 계좌를 찾을 수 없습니다: " + userId);
     }
+    return new InsufficientBalanceException("잔액이 부족합니다. 필요: " + totalAmount);
+  }
 
-    userStockRepository.save(userStock);
-    log.info(
-        "사용자 보유 주식 업데이트 완료 - 사용자: {}, 종목: {}, 수량: {}",
-        user.getId(),
-        stock.getTicker(),
-        userStock.getQuantity());
+  /** 보유 수량 차감 실패 원인 판별 (실패 경로에서만 추가 조회) */
+  private RuntimeException holdingFailure(UUID userId, StockRef stock, Integer quantity) {
+    return userStockRepository
+        .findByUserIdAndStockId(userId, stock.getId())
+        .<RuntimeException>map(
+            userStock ->
+                new RuntimeException(
+                    "보유한 주식 수량이 부족합니다. 보유: " + userStock.getQuantity() + ", 매도: " + quantity))
+        .orElseGet(() -> new RuntimeException("보유한 주식이 없습니다."));
   }
 
   @Override
@@ -308,83 +282,20 @@ public class TradeServiceImpl implements TradeService {
   @Override
   @Transactional(readOnly = true)
   public PortfolioResponse getPortfolio(UUID userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
     // 계좌 잔고 조회
     Account account = accountService.getUserAccount(userId);
-    BigDecimal totalBalance = account.getBalance();
-
-    // 보유 주식 목록 조회
-    List<UserStock> userStocks = userStockRepository.findByUser(user);
-
-    BigDecimal totalStockValue = BigDecimal.ZERO;
-    BigDecimal totalProfitLoss = BigDecimal.ZERO;
-    BigDecimal totalCost = BigDecimal.ZERO;
-
-    List<PortfolioItemResponse> items =
-        userStocks.stream()
-            .map(
-                userStock -> {
-                  Stock stock = userStock.getStock();
-                  // 현재가가 0이면 평균단가를 사용 (실제로는 프론트엔드에서 최신 가격을 전달받아야 함)
-                  BigDecimal currentPrice =
-                      stock.getCurrentPrice().compareTo(BigDecimal.ZERO) > 0
-                          ? stock.getCurrentPrice()
-                          : userStock.getAveragePrice();
-
-                  BigDecimal totalValue =
-                      currentPrice.multiply(BigDecimal.valueOf(userStock.getQuantity()));
-                  BigDecimal cost =
-                      userStock
-                          .getAveragePrice()
-                          .multiply(BigDecimal.valueOf(userStock.getQuantity()));
-                  BigDecimal profitLoss = totalValue.subtract(cost);
-                  BigDecimal profitLossRate =
-                      cost.compareTo(BigDecimal.ZERO) > 0
-                          ? profitLoss
-                              .divide(cost, 4, BigDecimal.ROUND_HALF_UP)
-                              .multiply(BigDecimal.valueOf(100))
-                          : BigDecimal.ZERO;
-
-                  return PortfolioItemResponse.builder()
-                      .stockCode(stock.getTicker())
-                      .stockName(stock.getName())
-                      .quantity(userStock.getQuantity())
-                      .averagePrice(userStock.getAveragePrice())
-                      .currentPrice(currentPrice)
-                      .totalValue(totalValue)
-                      .profitLoss(profitLoss)
-                      .profitLossRate(profitLossRate)
-                      .build();
-                })
-            .collect(Collectors.toList());
-
-    // 총계 계산
-    for (PortfolioItemResponse item : items) {
-      totalStockValue = totalStockValue.add(item.getTotalValue());
-      totalProfitLoss = totalProfitLoss.add(item.getProfitLoss());
-      totalCost =
-          totalCost.add(item.getAveragePrice().multiply(BigDecimal.valueOf(item.getQuantity())));
-    }
+    Money totalBalance = account.getBalance();
 
-    BigDecimal totalPortfolioValue = totalBalance.add(totalStockValue);
-    BigDecimal totalProfitLossRate =
-        totalCost.compareTo(BigDecimal.ZERO) > 0
-            ? totalProfitLoss
-                .divide(totalCost, 4, BigDecimal.ROUND_HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-            : BigDecimal.ZERO;
+    // 보유 주식 집계는 메모리 포트폴리오 엔진에서 조회 (체결/시세 변경 시 증분 갱신)
+    PortfolioSnapshot portfolio = portfolioEngine.getPortfolio(userId);
 
     return PortfolioResponse.builder()
-        .totalBalance(totalBalance)
-        .totalStockValue(totalStockValue)
-        .totalPortfolioValue(totalPortfolioValue)
-        .totalProfitLoss(totalProfitLoss)
-        .totalProfitLossRate(totalProfitLossRate)
-        .items(items)
+        .totalBalance(totalBalance.toBigDecimal())
+        .totalStockValue(portfolio.getTotalStockValue().toBigDecimal())
+        .totalPortfolioValue(totalBalance.plus(portfolio.getTotalStockValue()).toBigDecimal())
+        .totalProfitLoss(portfolio.getTotalProfitLoss())
+        .totalProfitLossRate(portfolio.getTotalProfitLossRate())
+        .items(portfolio.getItems())
         .build();
   }
 
@@ -395,8 +306,8 @@ public class TradeServiceImpl implements TradeService {
             .stockCode(trade.getStock().getTicker())
             .stockName(trade.getStock().getName())
             .quantity(trade.getQuantity())
-            .price(trade.getPrice().doubleValue())
-            .totalAmount(trade.getTotalAmount().doubleValue())
+            .price(trade.getPrice().toDouble())
+            .totalAmount(trade.getTotalAmount().toDouble())
             .tradeType(trade.getTradeType().name())
             .tradeDate(trade.getTimestamp())
             .status(trade.getStatus().name());
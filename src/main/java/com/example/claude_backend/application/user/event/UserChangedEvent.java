@@ -0,0 +1,19 @@
+package com.example.claude_backend.application.user.event;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 정보(닉네임, 프로필, 권한 등) 변경 이벤트
+ *
+ * <p>사용자 정보를 캐시하는 컴포넌트가 커밋 후 해당 사용자 캐시를 무효화하는 데 사용한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+  private final UUID userId;
+}
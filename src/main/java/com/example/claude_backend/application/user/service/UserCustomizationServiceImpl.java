@@ -5,6 +5,7 @@ import com.example.claude_backend.application.user.dto.CharacterRequest;
 import com.example.claude_backend.application.user.dto.CustomizationSelectRequest;
 import com.example.claude_backend.application.user.dto.CustomizationSelectResponse;
 import com.example.claude_backend.application.user.dto.UserCustomizationResponse;
+import com.example.claude_backend.application.user.event.UserChangedEvent;
 import com.example.claude_backend.domain.user.entity.User;
 import com.example.claude_backend.domain.user.entity.UserBackground;
 import com.example.claude_backend.domain.user.entity.UserCharacter;
@@ -23,6 +24,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class UserCustomizationServiceImpl implements UserCustomizationService {
   private final UserCharacterRepository userCharacterRepository;
   private final UserRepository userRepository;
   private final S3Service s3Service;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public UserCustomizationResponse getUserCustomization(UUID userId) {
@@ -146,6 +149,7 @@ public class UserCustomizationServiceImpl implements UserCustomizationService {
     // 프로필 업데이트
     user.getProfile().updateCustomization(request.getBackgroundCode(), request.getCharacterCode());
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
 
     log.info(
         "커스터마이제이션 선택 완료. userId: {}, backgroundCode: {}, characterCode: {}",
@@ -6,7 +6,9 @@ import com.example.claude_backend.application.user.dto.UserResponse;
 import com.example.claude_backend.application.user.dto.UserSearchResponse;
 import com.example.claude_backend.application.user.dto.UserStockResponse;
 import com.example.claude_backend.application.user.dto.UserUpdateRequest;
+import com.example.claude_backend.application.user.event.UserChangedEvent;
 import com.example.claude_backend.application.user.mapper.UserMapper;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.user.entity.User;
 import com.example.claude_backend.domain.user.entity.UserBackground;
 import com.example.claude_backend.domain.user.entity.UserCharacter;
@@ -19,13 +21,13 @@ import com.example.claude_backend.domain.user.repository.UserCharacterRepository
 import com.example.claude_backend.domain.user.repository.UserRepository;
 import com.example.claude_backend.domain.user.repository.UserStockRepository;
 import com.example.claude_backend.infrastructure.persistence.jpa.JpaUserRepository;
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +50,7 @@ public class UserServiceImpl implements UserService {
   private final UserBackgroundRepository userBackgroundRepository;
   private final UserCharacterRepository userCharacterRepository;
   private final JpaUserRepository jpaUserRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 사용자 ID로 조회 */
   @Override
@@ -103,6 +106,7 @@ public class UserServiceImpl implements UserService {
     }
 
     User updatedUser = userRepository.save(user);
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
     return userMapper.toUserResponse(updatedUser);
   }
 
@@ -241,7 +245,7 @@ public class UserServiceImpl implements UserService {
         .roomLevel(profile != null ? profile.getRoomLevel() : 1)
 
         // accounts 테이블 정보
-        .balance(account.getBalance())
+        .balance(account.getBalance().toBigDecimal())
         .acorn(account.getAcorn())
 
         // user_characters 테이블 정보
@@ -278,7 +282,7 @@ public class UserServiceImpl implements UserService {
 
     // 계좌 자동 생성 (초기 잔액: 1,000,000원)
     try {
-      accountService.createAccount(savedUser, BigDecimal.valueOf(1000000.0));
+      accountService.createAccount(savedUser, Money.won(1_000_000));
       log.info("사용자 계좌 자동 생성 완료. ID: {}", savedUser.getId());
     } catch (Exception e) {
       log.error("사용자 계좌 생성 실패. ID: {}, Error: {}", savedUser.getId(), e.getMessage());
@@ -340,9 +344,7 @@ public class UserServiceImpl implements UserService {
     Double currentPrice = userStock.getStock().getCurrentPrice().doubleValue();
     Double totalValue = currentPrice * userStock.getQuantity();
     Double averagePrice =
-        userStock.getAveragePrice() != null
-            ? userStock.getAveragePrice().doubleValue()
-            : currentPrice;
+        userStock.getAveragePrice() != null ? userStock.getAveragePrice().toDouble() : currentPrice;
     Double profitLoss = totalValue - (averagePrice * userStock.getQuantity());
     Double profitLossRate =
         averagePrice > 0 ? (profitLoss / (averagePrice * userStock.getQuantity())) * 100 : 0.0;
@@ -396,7 +398,7 @@ public class UserServiceImpl implements UserService {
         .roomLevel(profile != null ? profile.getRoomLevel() : 1)
 
         // accounts 테이블 정보
-        .balance(account.getBalance())
+        .balance(account.getBalance().toBigDecimal())
         .acorn(account.getAcorn())
 
         // user_characters 테이블 정보
@@ -0,0 +1,30 @@
+package com.example.claude_backend.common.config;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 서버 노드 식별자
+ *
+ * <p>여러 노드가 Redis를 공유할 때 메시지 발신 노드를 구분하는 데 사용한다. {@code app.node-id}가 비어 있으면 시작할 때마다 새 ID를 만든다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class NodeIdentity {
+
+  private final String id;
+
+  public NodeIdentity(@Value("${app.node-id:}") String configuredId) {
+    this.id = configuredId.isBlank() ? UUID.randomUUID().toString() : configuredId;
+    log.info("노드 ID: {}", id);
+  }
+
+  public String getId() {
+    return id;
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.claude_backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄링 설정 (시세 체크포인트 등 주기 작업)
+ *
+ * <p>@Scheduled 작업과 채팅 묶음 전송은 전용 스케줄러에서 실행한다. WebSocket 설정의 {@code taskScheduler}는 STOMP heartbeat
+ * 전용으로 남겨, DB 반영이 느려져도 heartbeat가 밀리지 않게 한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+  public static final String APPLICATION_TASK_SCHEDULER = "applicationTaskScheduler";
+
+  @Value("${app.scheduling.pool-size:4}")
+  private int poolSize;
+
+  /** 애플리케이션 주기 작업용 스케줄러 */
+  @Bean(name = APPLICATION_TASK_SCHEDULER)
+  public ThreadPoolTaskScheduler applicationTaskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("app-scheduler-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(10);
+    return scheduler;
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.setTaskScheduler(applicationTaskScheduler());
+  }
+}
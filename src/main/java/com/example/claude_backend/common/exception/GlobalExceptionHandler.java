@@ -1,7 +1,10 @@
 package com.example.claude_backend.common.exception;
 
+import com.example.claude_backend.application.chat.exception.ChatRoomFullException;
+import com.example.claude_backend.common.lock.UserLockTimeoutException;
 import com.example.claude_backend.domain.shop.exception.InsufficientAcornException;
 import com.example.claude_backend.domain.shop.exception.InvalidDrawTypeException;
+import com.example.claude_backend.domain.stock.exception.StockNotFoundException;
 import com.example.claude_backend.domain.user.exception.BackgroundAlreadyOwnedException;
 import com.example.claude_backend.domain.user.exception.BackgroundNotOwnedException;
 import com.example.claude_backend.domain.user.exception.CannotAddSelfAsFriendException;
@@ -47,6 +50,16 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error("USER_NOT_FOUND", ex.getMessage()));
   }
 
+  /** StockNotFoundException 처리 */
+  @ExceptionHandler(StockNotFoundException.class)
+  public ResponseEntity<ApiResponse<Void>> handleStockNotFoundException(
+      StockNotFoundException ex, WebRequest request) {
+    log.warn("주식을 찾을 수 없습니다: {}", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+        .body(ApiResponse.error("STOCK_NOT_FOUND", ex.getMessage()));
+  }
+
   /** BackgroundAlreadyOwnedException 처리 */
   @ExceptionHandler(BackgroundAlreadyOwnedException.class)
   public ResponseEntity<ApiResponse<Void>> handleBackgroundAlreadyOwnedException(
@@ -147,6 +160,26 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error("CHARACTER_NOT_OWNED", ex.getMessage()));
   }
 
+  /** UserLockTimeoutException 처리 */
+  @ExceptionHandler(UserLockTimeoutException.class)
+  public ResponseEntity<ApiResponse<Void>> handleUserLockTimeoutException(
+      UserLockTimeoutException ex, WebRequest request) {
+    log.warn("사용자 요청 처리 대기 시간 초과: {}", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(ApiResponse.error("CONCURRENT_REQUEST", ex.getMessage()));
+  }
+
+  /** ChatRoomFullException 처리 */
+  @ExceptionHandler(ChatRoomFullException.class)
+  public ResponseEntity<ApiResponse<Void>> handleChatRoomFullException(
+      ChatRoomFullException ex, WebRequest request) {
+    log.warn("채팅방 인원 초과: {}", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(ApiResponse.error("CHAT_ROOM_FULL", ex.getMessage()));
+  }
+
   /** Validation 예외 처리 */
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
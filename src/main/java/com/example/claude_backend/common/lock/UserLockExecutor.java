@@ -0,0 +1,83 @@
+package com.example.claude_backend.common.lock;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 단위 직렬 실행기
+ *
+ * <p>userId 해시로 선택한 스트라이프 락을 잡은 채로 작업을 실행하여, 같은 사용자의 잔액/도토리/보유 주식 변경이 동시에 실행되지 않고 하나씩 적용되도록 한다. 비공정
+ * 락이므로 대기 중인 요청의 실행 순서는 보장하지 않는다. 서로 다른 스트라이프에 속한 사용자끼리는 병렬로 실행된다. 트랜잭션이 락 안에서 커밋되도록 트랜잭션 경계
+ * 바깥(컨트롤러)에서 호출해야 한다.
+ *
+ * <p>락은 프로세스 내부에서만 유효하므로 다중 인스턴스 환경에서는 DB의 조건부 UPDATE가 최종 정합성을 보장한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class UserLockExecutor {
+
+  private final ReentrantLock[] stripes;
+  private final int mask;
+  private final long waitTimeoutMillis;
+
+  public UserLockExecutor(
+      @Value("${app.lock.user-stripes:1024}") int stripeCount,
+      @Value("${app.lock.wait-timeout-ms:3000}") long waitTimeoutMillis) {
+    int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.mask = size - 1;
+    this.waitTimeoutMillis = waitTimeoutMillis;
+    log.info("사용자 락 초기화 - 스트라이프: {}, 대기 제한: {}ms", size, waitTimeoutMillis);
+  }
+
+  /** 사용자 락을 획득한 상태로 작업 실행 후 결과 반환 */
+  public <T> T execute(UUID userId, Supplier<T> action) {
+    ReentrantLock lock = stripeFor(userId);
+    acquire(lock, userId);
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 사용자 락을 획득한 상태로 작업 실행 */
+  public void run(UUID userId, Runnable action) {
+    execute(
+        userId,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  private void acquire(ReentrantLock lock, UUID userId) {
+    try {
+      if (!lock.tryLock(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        log.warn("사용자 락 대기 시간 초과 - 사용자: {}", userId);
+        throw new UserLockTimeoutException(userId);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UserLockTimeoutException(userId);
+    }
+  }
+
+  private ReentrantLock stripeFor(UUID userId) {
+    long bits = userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+    int hash = (int) (bits ^ (bits >>> 32));
+    hash ^= hash >>> 16;
+    return stripes[hash & mask];
+  }
+}
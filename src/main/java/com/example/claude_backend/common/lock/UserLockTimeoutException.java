@@ -0,0 +1,9 @@
+package com.example.claude_backend.common.lock;
+
+import java.util.UUID;
+
+public class UserLockTimeoutException extends RuntimeException {
+  public UserLockTimeoutException(UUID userId) {
+    super("동일 사용자의 다른 요청을 처리 중입니다. 잠시 후 다시 시도해주세요. 사용자: " + userId);
+  }
+}
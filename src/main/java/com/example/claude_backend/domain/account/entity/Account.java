@@ -2,10 +2,10 @@ package com.example.claude_backend.domain.account.entity;
 
 import com.example.claude_backend.domain.account.exception.InsufficientBalanceException;
 import com.example.claude_backend.domain.common.BaseTimeEntity;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.user.entity.User;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 import java.util.UUID;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -44,7 +44,7 @@ public class Account extends BaseTimeEntity {
   /** 계좌 잔액 */
   @Column(nullable = false, precision = 19, scale = 2)
   @Builder.Default
-  private BigDecimal balance = BigDecimal.ZERO;
+  private Money balance = Money.ZERO;
 
   /** 도토리 */
   @Column(nullable = false)
@@ -52,7 +52,7 @@ public class Account extends BaseTimeEntity {
   private Integer acorn = 5;
 
   /** 잔액 업데이트 */
-  public void updateBalance(BigDecimal balance) {
+  public void updateBalance(Money balance) {
     this.balance = balance;
   }
 
@@ -80,20 +80,20 @@ public class Account extends BaseTimeEntity {
   }
 
   /** 잔액 증가 */
-  public void addBalance(BigDecimal amount) {
-    this.balance = this.balance.add(amount);
+  public void addBalance(Money amount) {
+    this.balance = this.balance.plus(amount);
   }
 
   /** 잔액 감소 */
-  public void subtractBalance(BigDecimal amount) {
-    if (this.balance.compareTo(amount) < 0) {
+  public void subtractBalance(Money amount) {
+    if (!this.balance.isGreaterThanOrEqual(amount)) {
       throw new InsufficientBalanceException("잔액이 부족합니다.");
     }
-    this.balance = this.balance.subtract(amount);
+    this.balance = this.balance.minus(amount);
   }
 
   /** 잔액 확인 */
-  public boolean hasSufficientBalance(BigDecimal amount) {
-    return this.balance.compareTo(amount) >= 0;
+  public boolean hasSufficientBalance(Money amount) {
+    return this.balance.isGreaterThanOrEqual(amount);
   }
 }
@@ -2,9 +2,12 @@ package com.example.claude_backend.domain.account.repository;
 
 import com.example.claude_backend.domain.account.entity.Account;
 import com.example.claude_backend.domain.user.entity.User;
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -21,4 +24,43 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
 
   /** 사용자 ID로 계좌 조회 */
   Optional<Account> findByUserId(UUID userId);
+
+  /** 사용자 ID로 계좌 존재 여부 확인 */
+  boolean existsByUserId(UUID userId);
+
+  /**
+   * 잔액이 충분한 경우에만 잔액 차감 (조건부 단일 UPDATE)
+   *
+   * <p>읽기-수정-쓰기 없이 DB에서 원자적으로 차감하므로 동시 주문에서도 갱신이 유실되지 않는다.
+   *
+   * @param userId 사용자 ID
+   * @param amount 차감 금액
+   * @return 차감된 계좌 ID (계좌가 없거나 잔액이 부족하면 empty)
+   */
+  @Query(
+      value =
+          "UPDATE accounts SET balance = balance - :amount, updated_at = CURRENT_TIMESTAMP "
+              + "WHERE user_id = :userId AND balance >= :amount "
+              + "RETURNING id",
+      nativeQuery = true)
+  Optional<UUID> debitBalanceIfSufficient(
+      @Param("userId") UUID userId, @Param("amount") BigDecimal amount);
+
+  /**
+   * 잔액 및 도토리 증가 (단일 UPDATE)
+   *
+   * @param userId 사용자 ID
+   * @param amount 증가 금액
+   * @param acorn 증가 도토리 수
+   * @return 입금된 계좌 ID (계좌가 없으면 empty)
+   */
+  @Query(
+      value =
+          "UPDATE accounts SET balance = balance + :amount, acorn = acorn + :acorn, "
+              + "updated_at = CURRENT_TIMESTAMP "
+              + "WHERE user_id = :userId "
+              + "RETURNING id",
+      nativeQuery = true)
+  Optional<UUID> creditBalance(
+      @Param("userId") UUID userId, @Param("amount") BigDecimal amount, @Param("acorn") int acorn);
 }
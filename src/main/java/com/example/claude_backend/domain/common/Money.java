@@ -0,0 +1,123 @@
+package com.example.claude_backend.domain.common;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액 (고정 소수점)
+ *
+ * <p>금액을 1/100원 단위 long으로 보관하는 불변 값 객체. 계산은 long 연산으로만 수행하며, 범위를 넘으면 {@link ArithmeticException}이
+ * 발생한다. DB 컬럼(numeric(19,2))과는 {@link MoneyConverter}로, JSON과는 원 단위 숫자로 변환된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+public final class Money implements Comparable<Money> {
+
+  /** 1원 = 100 단위 */
+  public static final int SCALE = 2;
+
+  public static final Money ZERO = new Money(0L);
+
+  private static final long UNITS_PER_WON = 100L;
+
+  private final long units;
+
+  private Money(long units) {
+    this.units = units;
+  }
+
+  /** 1/100원 단위 값으로 생성 */
+  public static Money ofUnits(long units) {
+    return units == 0L ? ZERO : new Money(units);
+  }
+
+  /** 원 단위 정수로 생성 */
+  public static Money won(long won) {
+    return ofUnits(Math.multiplyExact(won, UNITS_PER_WON));
+  }
+
+  /** 원 단위 금액으로 생성 (소수점 셋째 자리에서 반올림) */
+  @JsonCreator
+  public static Money of(BigDecimal amount) {
+    return ofUnits(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+  }
+
+  /**
+   * 원 단위 금액으로 생성 (소수점 셋째 자리에서 반올림)
+   *
+   * <p>double의 십진 표기(1.005 등)를 기준으로 반올림한다. 100을 곱한 double을 반올림하면 이진 오차로 1.00이 되기 때문이다.
+   */
+  public static Money of(double amount) {
+    if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+      throw new ArithmeticException("금액으로 변환할 수 없는 값입니다: " + amount);
+    }
+    return of(BigDecimal.valueOf(amount));
+  }
+
+  public long getUnits() {
+    return units;
+  }
+
+  public Money plus(Money other) {
+    return ofUnits(Math.addExact(units, other.units));
+  }
+
+  public Money minus(Money other) {
+    return ofUnits(Math.subtractExact(units, other.units));
+  }
+
+  public Money times(long quantity) {
+    return ofUnits(Math.multiplyExact(units, quantity));
+  }
+
+  /** 몫 (소수점 이하 버림) */
+  public long quotient(Money divisor) {
+    return units / divisor.units;
+  }
+
+  public int signum() {
+    return Long.signum(units);
+  }
+
+  public boolean isPositive() {
+    return units > 0;
+  }
+
+  public boolean isGreaterThanOrEqual(Money other) {
+    return units >= other.units;
+  }
+
+  /** 원 단위 BigDecimal (scale 2) */
+  @JsonValue
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(units, SCALE);
+  }
+
+  /** 원 단위 double (응답 DTO용) */
+  public double toDouble() {
+    return (double) units / UNITS_PER_WON;
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(units, other.units);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof Money other && units == other.units);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(units);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.claude_backend.domain.common;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * {@link Money} ↔ numeric(19,2) 컬럼 변환
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(Money attribute) {
+    return attribute == null ? null : attribute.toBigDecimal();
+  }
+
+  @Override
+  public Money convertToEntityAttribute(BigDecimal dbData) {
+    return dbData == null ? null : Money.of(dbData);
+  }
+}
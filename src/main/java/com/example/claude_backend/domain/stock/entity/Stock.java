@@ -18,7 +18,8 @@ import lombok.*;
     name = "stocks",
     indexes = {
       @Index(name = "idx_stocks_ticker", columnList = "ticker"),
-      @Index(name = "idx_stocks_name", columnList = "name")
+      @Index(name = "idx_stocks_name", columnList = "name"),
+      @Index(name = "idx_stocks_sector", columnList = "sector")
     },
     uniqueConstraints = {@UniqueConstraint(name = "uk_stocks_ticker", columnNames = "ticker")})
 @Getter
@@ -59,6 +60,14 @@ public class Stock extends BaseTimeEntity {
   /** 거래시간 */
   @Column private LocalTime tradeTime;
 
+  /** 업종 (대분류) */
+  @Column(length = 50)
+  private String sector;
+
+  /** 세부 업종 */
+  @Column(length = 100)
+  private String industry;
+
   /** 가격 업데이트 */
   public void updatePrice(BigDecimal newPrice) {
     this.currentPrice = newPrice;
@@ -2,10 +2,10 @@ package com.example.claude_backend.domain.trade.entity;
 
 import com.example.claude_backend.domain.account.entity.Account;
 import com.example.claude_backend.domain.common.BaseTimeEntity;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.stock.entity.Stock;
 import com.example.claude_backend.domain.user.entity.User;
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.*;
 
@@ -32,10 +32,16 @@ import lombok.*;
 @Builder
 public class Trade extends BaseTimeEntity {
 
+  /** trade_seq 한 번 호출로 확보하는 ID 개수 (DB 시퀀스의 INCREMENT와 같아야 함) */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   /** 거래 고유 식별자 */
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_seq")
-  @SequenceGenerator(name = "trade_seq", sequenceName = "trade_seq", allocationSize = 1)
+  @SequenceGenerator(
+      name = "trade_seq",
+      sequenceName = "trade_seq",
+      allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   /** 사용자 */
@@ -55,7 +61,7 @@ public class Trade extends BaseTimeEntity {
 
   /** 거래 가격 */
   @Column(nullable = false, precision = 19, scale = 2)
-  private BigDecimal price;
+  private Money price;
 
   /** 거래 수량 */
   @Column(nullable = false)
@@ -91,12 +97,7 @@ public class Trade extends BaseTimeEntity {
 
   /** 거래 생성 */
   public static Trade createTrade(
-      User user,
-      Account account,
-      Stock stock,
-      TradeType tradeType,
-      Integer quantity,
-      BigDecimal price) {
+      User user, Account account, Stock stock, TradeType tradeType, Integer quantity, Money price) {
 
     return Trade.builder()
         .user(user)
@@ -139,7 +140,7 @@ public class Trade extends BaseTimeEntity {
   }
 
   /** 거래 총액 계산 */
-  public BigDecimal getTotalAmount() {
-    return price.multiply(BigDecimal.valueOf(quantity));
+  public Money getTotalAmount() {
+    return price.times(quantity);
   }
 }
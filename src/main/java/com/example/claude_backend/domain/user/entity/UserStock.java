@@ -1,10 +1,12 @@
 package com.example.claude_backend.domain.user.entity;
 
 import com.example.claude_backend.domain.common.BaseTimeEntity;
+import com.example.claude_backend.domain.common.Money;
 import com.example.claude_backend.domain.stock.entity.Stock;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.UUID;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -59,7 +61,7 @@ public class UserStock extends BaseTimeEntity {
 
   /** 평균 매수가 */
   @Column(precision = 19, scale = 2)
-  private BigDecimal averagePrice;
+  private Money averagePrice;
 
   /** 수량 증가 */
   public void addQuantity(Long amount) {
@@ -75,7 +77,7 @@ public class UserStock extends BaseTimeEntity {
   }
 
   /** 평균 매수가 업데이트 */
-  public void updateAveragePrice(BigDecimal newAveragePrice) {
+  public void updateAveragePrice(Money newAveragePrice) {
     this.averagePrice = newAveragePrice;
   }
 
@@ -90,13 +92,14 @@ public class UserStock extends BaseTimeEntity {
   /** 수익률 계산 */
   public BigDecimal getProfitRate() {
     if (averagePrice != null
-        && averagePrice.compareTo(BigDecimal.ZERO) > 0
+        && averagePrice.isPositive()
         && stock != null
         && stock.getCurrentPrice() != null) {
+      BigDecimal average = averagePrice.toBigDecimal();
       return stock
           .getCurrentPrice()
-          .subtract(averagePrice)
-          .divide(averagePrice, 4, BigDecimal.ROUND_HALF_UP)
+          .subtract(average)
+          .divide(average, 4, RoundingMode.HALF_UP)
           .multiply(BigDecimal.valueOf(100));
     }
     return BigDecimal.ZERO;
@@ -37,6 +37,14 @@ public interface UserRepository {
    */
   Optional<User> findById(Long id);
 
+  /**
+   * ID로 사용자 참조 조회 (SELECT 없이 프록시 반환)
+   *
+   * @param id 사용자 ID
+   * @return 사용자 참조 프록시
+   */
+  User getReferenceById(UUID id);
+
   /**
    * 이메일로 사용자 조회
    *
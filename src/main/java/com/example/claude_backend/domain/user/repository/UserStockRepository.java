@@ -3,10 +3,12 @@ package com.example.claude_backend.domain.user.repository;
 import com.example.claude_backend.domain.stock.entity.Stock;
 import com.example.claude_backend.domain.user.entity.User;
 import com.example.claude_backend.domain.user.entity.UserStock;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,6 +34,10 @@ public interface UserStockRepository extends JpaRepository<UserStock, UUID> {
   /** 사용자 ID와 주식 ID로 보유 주식 조회 */
   Optional<UserStock> findByUserIdAndStockId(UUID userId, Long stockId);
 
+  /** 사용자 ID로 보유 주식과 종목 정보 함께 조회 */
+  @Query("SELECT us FROM UserStock us JOIN FETCH us.stock WHERE us.user.id = :userId")
+  List<UserStock> findWithStockByUserId(@Param("userId") UUID userId);
+
   /** 사용자 ID와 종목 코드로 보유 주식 조회 */
   @Query(
       "SELECT us FROM UserStock us JOIN us.stock s WHERE us.user.id = :userId AND s.ticker = :ticker")
@@ -46,4 +52,70 @@ public interface UserStockRepository extends JpaRepository<UserStock, UUID> {
   @Query(
       "SELECT SUM(us.quantity * s.currentPrice) FROM UserStock us JOIN us.stock s WHERE us.user = :user")
   Double getTotalStockValueByUser(@Param("user") User user);
+
+  /**
+   * 매수 체결 시 보유 주식 upsert (평균단가 계산을 SQL에서 수행)
+   *
+   * <p>보유 내역이 없으면 새로 생성하고, 있으면 수량을 더하고 가중 평균단가를 소수점 2자리 반올림으로 갱신한다.
+   *
+   * @param id 신규 생성 시 사용할 보유 주식 ID
+   * @param userId 사용자 ID
+   * @param stockId 주식 ID
+   * @param quantity 매수 수량
+   * @param price 매수 가격
+   * @return 갱신 후 보유 수량과 평균단가
+   */
+  @Query(
+      value =
+          "INSERT INTO user_stocks "
+              + "(id, user_id, stock_id, quantity, average_price, created_at, updated_at) "
+              + "VALUES (:id, :userId, :stockId, :quantity, :price, "
+              + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) "
+              + "ON CONFLICT (user_id, stock_id) DO UPDATE SET "
+              + "average_price = ROUND("
+              + "(COALESCE(user_stocks.average_price, 0) * user_stocks.quantity "
+              + "+ EXCLUDED.average_price * EXCLUDED.quantity) "
+              + "/ (user_stocks.quantity + EXCLUDED.quantity), 2), "
+              + "quantity = user_stocks.quantity + EXCLUDED.quantity, "
+              + "updated_at = CURRENT_TIMESTAMP "
+              + "RETURNING quantity AS \"quantity\", average_price AS \"averagePrice\"",
+      nativeQuery = true)
+  HoldingSnapshot upsertOnBuy(
+      @Param("id") UUID id,
+      @Param("userId") UUID userId,
+      @Param("stockId") Long stockId,
+      @Param("quantity") long quantity,
+      @Param("price") BigDecimal price);
+
+  /**
+   * 매도 체결 시 보유 수량 차감 (보유 수량이 충분한 경우에만)
+   *
+   * @param userId 사용자 ID
+   * @param stockId 주식 ID
+   * @param quantity 매도 수량
+   * @return 차감 후 보유 수량과 평균단가 (보유 내역이 없거나 수량이 부족하면 empty)
+   */
+  @Query(
+      value =
+          "UPDATE user_stocks SET quantity = quantity - :quantity, updated_at = CURRENT_TIMESTAMP "
+              + "WHERE user_id = :userId AND stock_id = :stockId AND quantity >= :quantity "
+              + "RETURNING quantity AS \"quantity\", average_price AS \"averagePrice\"",
+      nativeQuery = true)
+  Optional<HoldingSnapshot> decreaseHoldingIfSufficient(
+      @Param("userId") UUID userId, @Param("stockId") Long stockId, @Param("quantity") long quantity);
+
+  /** 전량 매도된 보유 주식 삭제 */
+  @Modifying
+  @Query(
+      value = "DELETE FROM user_stocks WHERE user_id = :userId AND stock_id = :stockId AND quantity = 0",
+      nativeQuery = true)
+  int deleteEmptyHolding(@Param("userId") UUID userId, @Param("stockId") Long stockId);
+
+  /** 체결 후 보유 상태 (수량, 평균단가) */
+  interface HoldingSnapshot {
+
+    Long getQuantity();
+
+    BigDecimal getAveragePrice();
+  }
 }
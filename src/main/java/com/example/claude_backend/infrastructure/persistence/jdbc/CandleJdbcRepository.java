@@ -0,0 +1,259 @@
+package com.example.claude_backend.infrastructure.persistence.jdbc;
+
+import com.example.claude_backend.application.stock.candle.Candle;
+import com.example.claude_backend.application.stock.candle.CandleInterval;
+import com.example.claude_backend.application.stock.candle.StockTick;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 봉/체결 틱 JDBC 저장소
+ *
+ * <p>stock_candles와 stock_ticks는 거래일 단위 범위 파티션 테이블이다. 파티션은 {@link #createDailyPartitions}로 만들며, 없는
+ * 날짜의 행은 기본 파티션에 들어갔다가 파티션을 만들 때 옮겨진다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Repository
+@RequiredArgsConstructor
+public class CandleJdbcRepository {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String COLUMNS =
+      "ticker, period_minutes, bucket_start, open_price, high_price, low_price, close_price, "
+          + "volume, opened_at, closed_at";
+
+  // 같은 봉 행에 증가분을 합침 (시가/종가는 체결 시각이 더 이르거나/늦은 쪽, 재전송이나 여러 노드가 반영해도 거래량 합계가 맞음)
+  private static final String UPSERT_CANDLE_SQL =
+      "INSERT INTO stock_candles ("
+          + COLUMNS
+          + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+          + "ON CONFLICT (ticker, period_minutes, bucket_start) DO UPDATE SET "
+          + "open_price = CASE WHEN EXCLUDED.opened_at < stock_candles.opened_at "
+          + "THEN EXCLUDED.open_price ELSE stock_candles.open_price END, "
+          + "opened_at = LEAST(stock_candles.opened_at, EXCLUDED.opened_at), "
+          + "high_price = GREATEST(stock_candles.high_price, EXCLUDED.high_price), "
+          + "low_price = LEAST(stock_candles.low_price, EXCLUDED.low_price), "
+          + "close_price = CASE WHEN stock_candles.closed_at IS NULL "
+          + "OR EXCLUDED.closed_at >= stock_candles.closed_at "
+          + "THEN EXCLUDED.close_price ELSE stock_candles.close_price END, "
+          + "closed_at = GREATEST(stock_candles.closed_at, EXCLUDED.closed_at), "
+          + "volume = stock_candles.volume + EXCLUDED.volume";
+
+  private static final String INSERT_TICK_SQL =
+      "INSERT INTO stock_ticks (ticker, traded_at, price, volume) VALUES (?, ?, ?, ?)";
+
+  private static final String SELECT_RANGE_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM stock_candles WHERE ticker = ? AND period_minutes = ? "
+          + "AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start LIMIT ?";
+
+  private static final String SELECT_RECENT_SQL =
+      "(SELECT "
+          + COLUMNS
+          + " FROM stock_candles WHERE ticker = ? AND period_minutes = ? "
+          + "AND bucket_start >= ? ORDER BY bucket_start DESC LIMIT ?)";
+
+  private static final String SELECT_LATEST_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM (SELECT "
+          + COLUMNS
+          + ", ROW_NUMBER() OVER (PARTITION BY ticker ORDER BY bucket_start DESC) AS rn "
+          + "FROM stock_candles WHERE period_minutes = ? AND bucket_start >= ?) latest "
+          + "WHERE rn <= ? ORDER BY ticker, bucket_start DESC";
+
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 거래일 파티션 생성 (이미 있으면 무시, 트랜잭션 안에서 호출)
+   *
+   * <p>기본 파티션에 그 날짜 행이 있으면 파티션을 붙일 수 없으므로, 기본 파티션을 잠그고 새 테이블로 행을 옮긴 뒤 붙인다.
+   */
+  public void createDailyPartitions(LocalDate date) {
+    createDailyPartition("stock_candles", "bucket_start", date);
+    createDailyPartition("stock_ticks", "traded_at", date);
+  }
+
+  private void createDailyPartition(String table, String column, LocalDate date) {
+    String partition = table + "_" + date.format(PARTITION_SUFFIX);
+    if (exists(partition)) {
+      return;
+    }
+    String defaultPartition = table + "_default";
+    // 옮기는 사이 그 날짜 행이 기본 파티션에 새로 들어오지 않게 함 (다른 노드의 생성도 여기서 대기)
+    jdbcTemplate.execute("LOCK TABLE " + defaultPartition + " IN SHARE ROW EXCLUSIVE MODE");
+    if (exists(partition)) {
+      return;
+    }
+    jdbcTemplate.execute(
+        "CREATE TABLE "
+            + partition
+            + " (LIKE "
+            + table
+            + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+    jdbcTemplate.update(
+        "WITH moved AS (DELETE FROM "
+            + defaultPartition
+            + " WHERE "
+            + column
+            + " >= ? AND "
+            + column
+            + " < ? RETURNING *) INSERT INTO "
+            + partition
+            + " SELECT * FROM moved",
+        Timestamp.valueOf(date.atStartOfDay()),
+        Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+    jdbcTemplate.execute(
+        "ALTER TABLE "
+            + table
+            + " ATTACH PARTITION "
+            + partition
+            + " FOR VALUES FROM ('"
+            + date
+            + "') TO ('"
+            + date.plusDays(1)
+            + "')");
+  }
+
+  private boolean exists(String table) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+  }
+
+  /** 봉 증가분 일괄 반영 (같은 봉이 두 번 들어 있으면 안 됨) */
+  public void batchUpsertCandles(Collection<Candle> candles) {
+    jdbcTemplate.batchUpdate(
+        UPSERT_CANDLE_SQL,
+        candles,
+        BATCH_SIZE,
+        (ps, candle) -> {
+          ps.setString(1, candle.getTicker());
+          ps.setInt(2, candle.getInterval().getMinutes());
+          ps.setTimestamp(3, Timestamp.valueOf(candle.getBucketStart()));
+          ps.setLong(4, candle.getOpen());
+          ps.setLong(5, candle.getHigh());
+          ps.setLong(6, candle.getLow());
+          ps.setLong(7, candle.getClose());
+          ps.setLong(8, candle.getVolume());
+          ps.setTimestamp(9, Timestamp.valueOf(candle.getOpenedAt()));
+          ps.setTimestamp(10, Timestamp.valueOf(candle.getClosedAt()));
+        });
+  }
+
+  /** 체결 틱 일괄 INSERT */
+  public void batchInsertTicks(List<StockTick> ticks) {
+    jdbcTemplate.batchUpdate(
+        INSERT_TICK_SQL,
+        ticks,
+        BATCH_SIZE,
+        (ps, tick) -> {
+          ps.setString(1, tick.getTicker());
+          ps.setTimestamp(2, Timestamp.valueOf(tick.getTradedAt()));
+          ps.setLong(3, tick.getPrice());
+          ps.setLong(4, tick.getVolume());
+        });
+  }
+
+  /**
+   * 구간 봉 조회
+   *
+   * @param from 시작 봉 시각 (포함)
+   * @param to 끝 시각 (미포함)
+   * @return 시각 오름차순 봉 (최대 limit개)
+   */
+  public List<Candle> findCandles(
+      String ticker, CandleInterval interval, LocalDateTime from, LocalDateTime to, int limit) {
+    return jdbcTemplate.query(
+        SELECT_RANGE_SQL,
+        CandleJdbcRepository::mapCandle,
+        ticker,
+        interval.getMinutes(),
+        Timestamp.valueOf(from),
+        Timestamp.valueOf(to),
+        limit);
+  }
+
+  /**
+   * 주기별 최근 봉 조회 (쿼리 한 번)
+   *
+   * @param since 주기별 조회 시작 시각
+   * @param limit 주기별 최대 개수 (가장 최근부터)
+   * @return 주기와 관계없이 섞인 봉 (주기 안에서는 시각 내림차순)
+   */
+  public List<Candle> findRecentCandles(
+      String ticker, Map<CandleInterval, LocalDateTime> since, int limit) {
+    List<String> queries = new ArrayList<>();
+    List<Object> args = new ArrayList<>();
+    since.forEach(
+        (interval, from) -> {
+          queries.add(SELECT_RECENT_SQL);
+          args.add(ticker);
+          args.add(interval.getMinutes());
+          args.add(Timestamp.valueOf(from));
+          args.add(limit);
+        });
+    return jdbcTemplate.query(
+        String.join(" UNION ALL ", queries), CandleJdbcRepository::mapCandle, args.toArray());
+  }
+
+  /**
+   * 전 종목 최근 봉 조회 (쿼리 한 번)
+   *
+   * @param since 조회 시작 시각
+   * @param limit 종목별 최대 개수 (가장 최근부터)
+   * @return 종목 오름차순, 종목 안에서는 시각 내림차순 봉
+   */
+  public List<Candle> findLatestCandles(CandleInterval interval, LocalDateTime since, int limit) {
+    return jdbcTemplate.query(
+        SELECT_LATEST_SQL,
+        CandleJdbcRepository::mapCandle,
+        interval.getMinutes(),
+        Timestamp.valueOf(since),
+        limit);
+  }
+
+  private static Candle mapCandle(ResultSet rs, int rowNum) throws SQLException {
+    LocalDateTime bucketStart = rs.getTimestamp("bucket_start").toLocalDateTime();
+    // 체결 시각 열 추가 이전 행은 봉 시작 시각으로 간주
+    Timestamp openedAt = rs.getTimestamp("opened_at");
+    Timestamp closedAt = rs.getTimestamp("closed_at");
+    return Candle.builder()
+        .ticker(rs.getString("ticker"))
+        .interval(intervalOf(rs.getInt("period_minutes")))
+        .bucketStart(bucketStart)
+        .open(rs.getLong("open_price"))
+        .high(rs.getLong("high_price"))
+        .low(rs.getLong("low_price"))
+        .close(rs.getLong("close_price"))
+        .volume(rs.getLong("volume"))
+        .openedAt(openedAt != null ? openedAt.toLocalDateTime() : bucketStart)
+        .closedAt(closedAt != null ? closedAt.toLocalDateTime() : bucketStart)
+        .build();
+  }
+
+  private static CandleInterval intervalOf(int minutes) {
+    for (CandleInterval interval : CandleInterval.values()) {
+      if (interval.getMinutes() == minutes) {
+        return interval;
+      }
+    }
+    throw new IllegalStateException("알 수 없는 봉 주기: " + minutes);
+  }
+}
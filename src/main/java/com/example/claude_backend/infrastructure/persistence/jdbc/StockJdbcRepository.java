@@ -0,0 +1,134 @@
+package com.example.claude_backend.infrastructure.persistence.jdbc;
+
+import com.example.claude_backend.application.stock.master.StockMasterRecord;
+import com.example.claude_backend.application.stock.master.StockRef;
+import com.example.claude_backend.application.stock.quote.QuoteSnapshot;
+import com.example.claude_backend.application.stock.sector.StockClassification;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주식 JDBC 저장소 (종목 마스터, 시세 체크포인트, 업종 분류 등 대량 갱신과 주문용 종목 참조 조회)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJdbcRepository {
+
+  private static final String UPDATE_PRICE_SQL =
+      "UPDATE stocks SET current_price = ?, trade_date = ?, trade_time = ?, "
+          + "updated_at = CURRENT_TIMESTAMP WHERE ticker = ?";
+
+  // 값이 같은 행은 건드리지 않음 (시작할 때마다 같은 시드를 반영해도 UPDATE 없음)
+  private static final String UPDATE_CLASSIFICATION_SQL =
+      "UPDATE stocks SET sector = ?, industry = ?, updated_at = CURRENT_TIMESTAMP "
+          + "WHERE ticker = ? AND (sector IS DISTINCT FROM ? OR industry IS DISTINCT FROM ?)";
+
+  // 현재가는 아직 없을 때(0)만 기준가로 채움 (이후에는 시세 체크포인트가 관리), 바뀐 값이 없는 행은 건드리지 않음
+  private static final String UPSERT_MASTER_SQL =
+      "INSERT INTO stocks (ticker, name, current_price, per, pbr, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) "
+          + "ON CONFLICT (ticker) DO UPDATE SET "
+          + "name = EXCLUDED.name, "
+          + "current_price = CASE WHEN stocks.current_price > 0 THEN stocks.current_price "
+          + "ELSE EXCLUDED.current_price END, "
+          + "per = COALESCE(EXCLUDED.per, stocks.per), "
+          + "pbr = COALESCE(EXCLUDED.pbr, stocks.pbr), "
+          + "updated_at = CURRENT_TIMESTAMP "
+          + "WHERE stocks.name IS DISTINCT FROM EXCLUDED.name "
+          + "OR (stocks.current_price <= 0 AND EXCLUDED.current_price > 0) "
+          + "OR (EXCLUDED.per IS NOT NULL AND stocks.per IS DISTINCT FROM EXCLUDED.per) "
+          + "OR (EXCLUDED.pbr IS NOT NULL AND stocks.pbr IS DISTINCT FROM EXCLUDED.pbr)";
+
+  private static final String SELECT_REF_SQL = "SELECT id, ticker, name, current_price FROM stocks";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 종목 마스터 일괄 반영 (INSERT ... ON CONFLICT (ticker) DO UPDATE, JDBC 배치 한 번) */
+  public void batchUpsertMaster(List<StockMasterRecord> records) {
+    jdbcTemplate.batchUpdate(
+        UPSERT_MASTER_SQL,
+        records,
+        records.size(),
+        (ps, record) -> {
+          ps.setString(1, record.getTicker());
+          ps.setString(2, record.getName());
+          ps.setBigDecimal(
+              3, record.getBasePrice() != null ? record.getBasePrice() : BigDecimal.ZERO);
+          ps.setBigDecimal(4, record.getPer());
+          ps.setBigDecimal(5, record.getPbr());
+        });
+  }
+
+  /** 전체 종목 참조를 한 행씩 전달 (목록을 메모리에 만들지 않음) */
+  public void forEachRef(Consumer<StockRef> action) {
+    jdbcTemplate.query(SELECT_REF_SQL, (RowCallbackHandler) rs -> action.accept(mapRef(rs)));
+  }
+
+  /** 종목 코드로 종목 참조 조회 */
+  public Optional<StockRef> findRef(String ticker) {
+    return jdbcTemplate
+        .query(SELECT_REF_SQL + " WHERE ticker = ?", (rs, rowNum) -> mapRef(rs), ticker)
+        .stream()
+        .findFirst();
+  }
+
+  /** 종목별 현재가/거래일시 일괄 갱신 (JDBC 배치 한 번) */
+  public void batchUpdatePrices(List<QuoteSnapshot> quotes) {
+    jdbcTemplate.batchUpdate(
+        UPDATE_PRICE_SQL,
+        quotes,
+        quotes.size(),
+        (ps, quote) -> {
+          ps.setBigDecimal(1, quote.getLast());
+          if (quote.getTradeDate() != null) {
+            ps.setDate(2, Date.valueOf(quote.getTradeDate()));
+          } else {
+            ps.setNull(2, Types.DATE);
+          }
+          if (quote.getTradeTime() != null) {
+            ps.setTime(3, Time.valueOf(quote.getTradeTime()));
+          } else {
+            ps.setNull(3, Types.TIME);
+          }
+          ps.setString(4, quote.getTicker());
+        });
+  }
+
+  /** 종목별 업종 분류 일괄 갱신 (JDBC 배치 한 번, 값이 바뀐 행만) */
+  public void batchUpdateClassifications(Collection<StockClassification> classifications) {
+    jdbcTemplate.batchUpdate(
+        UPDATE_CLASSIFICATION_SQL,
+        classifications,
+        classifications.size(),
+        (ps, classification) -> {
+          ps.setString(1, classification.getSector());
+          ps.setString(2, classification.getIndustry());
+          ps.setString(3, classification.getTicker());
+          ps.setString(4, classification.getSector());
+          ps.setString(5, classification.getIndustry());
+        });
+  }
+
+  private static StockRef mapRef(ResultSet rs) throws SQLException {
+    return new StockRef(
+        rs.getLong("id"),
+        rs.getString("ticker"),
+        rs.getString("name"),
+        rs.getBigDecimal("current_price"));
+  }
+}
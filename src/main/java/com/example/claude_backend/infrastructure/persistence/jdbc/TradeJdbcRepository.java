@@ -0,0 +1,69 @@
+package com.example.claude_backend.infrastructure.persistence.jdbc;
+
+import com.example.claude_backend.application.trade.journal.TradeJournalEntry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 거래 기록 JDBC 저장소 (JPA를 거치지 않는 배치 INSERT 전용)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Repository
+@RequiredArgsConstructor
+public class TradeJdbcRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO trades (id, user_id, account_id, stock_id, price, quantity, trade_type, "
+          + "status, timestamp, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** trade_seq에서 다음 ID 블록의 시작값 조회 */
+  public long nextIdBlockStart() {
+    Long value = jdbcTemplate.queryForObject("SELECT nextval('trade_seq')", Long.class);
+    if (value == null) {
+      throw new IllegalStateException("trade_seq 시퀀스 값을 조회할 수 없습니다.");
+    }
+    return value;
+  }
+
+  /** trade_seq의 증가값 조회 (현재 스키마에 시퀀스가 없으면 empty) */
+  public Optional<Long> findIdSequenceIncrement() {
+    return jdbcTemplate
+        .queryForList(
+            "SELECT CAST(increment AS BIGINT) FROM information_schema.sequences "
+                + "WHERE LOWER(sequence_name) = 'trade_seq' AND sequence_schema = CURRENT_SCHEMA",
+            Long.class)
+        .stream()
+        .findFirst();
+  }
+
+  /** 거래 기록 배치 INSERT */
+  public void batchInsert(List<TradeJournalEntry> entries) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), TradeJdbcRepository::bindEntry);
+  }
+
+  private static void bindEntry(PreparedStatement ps, TradeJournalEntry entry) throws SQLException {
+    Timestamp timestamp = Timestamp.valueOf(entry.getTimestamp());
+    ps.setLong(1, entry.getId());
+    ps.setObject(2, entry.getUserId());
+    ps.setObject(3, entry.getAccountId());
+    ps.setLong(4, entry.getStockId());
+    ps.setBigDecimal(5, entry.getPrice().toBigDecimal());
+    ps.setInt(6, entry.getQuantity());
+    ps.setString(7, entry.getTradeType().name());
+    ps.setString(8, entry.getStatus().name());
+    ps.setTimestamp(9, timestamp);
+    ps.setTimestamp(10, timestamp);
+    ps.setTimestamp(11, timestamp);
+  }
+}
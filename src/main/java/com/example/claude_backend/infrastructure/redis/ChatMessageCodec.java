@@ -0,0 +1,239 @@
+package com.example.claude_backend.infrastructure.redis;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 Redis Pub/Sub 바이너리 코덱
+ *
+ * <p>기본 타입 정보({@code @class})와 필드 이름이 붙는 JSON 대신 고정 순서의 바이너리로 인코딩한다. 모든 정수는 빅 엔디언이다.
+ *
+ * <pre>
+ * version(1) | type(1) | flags(1) | id(8, flags 0x04) | senderId(16, flags 0x01)
+ * | timestamp(8, flags 0x02) | origin | roomId | senderNickname | senderCharacterCode | content
+ * </pre>
+ *
+ * <p>문자열은 {@code varint(UTF-8 길이 + 1)} 뒤에 UTF-8 바이트가 온다 (0은 null). UUID는 long 두 개, 시각은 {@link
+ * LocalDateTime}을 UTC 기준 epoch 밀리초로 변환한 값이다 (노드 간 시간대와 무관하게 같은 값으로 복원된다).
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+public final class ChatMessageCodec {
+
+  private static final byte VERSION = 1;
+
+  private static final byte TYPE_NONE = -1;
+  private static final byte TYPE_CHAT = 0;
+  private static final byte TYPE_JOIN = 1;
+  private static final byte TYPE_LEAVE = 2;
+
+  private static final byte FLAG_SENDER = 0x01;
+  private static final byte FLAG_TIMESTAMP = 0x02;
+  private static final byte FLAG_ID = 0x04;
+
+  private static final int FIXED_HEADER_SIZE = 3 + 8 + 16 + 8;
+  private static final int MAX_VARINT_SIZE = 5;
+
+  private ChatMessageCodec() {}
+
+  /**
+   * 메시지 인코딩
+   *
+   * @param origin 발신 노드 ID
+   * @param message 채팅 메시지
+   * @return 인코딩된 바이트
+   */
+  public static byte[] encode(String origin, ChatMessage message) {
+    byte[] originBytes = utf8(origin);
+    byte[] roomId = utf8(message.getRoomId());
+    byte[] nickname = utf8(message.getSenderNickname());
+    byte[] characterCode = utf8(message.getSenderCharacterCode());
+    byte[] content = utf8(message.getContent());
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+            FIXED_HEADER_SIZE
+                + stringSize(originBytes)
+                + stringSize(roomId)
+                + stringSize(nickname)
+                + stringSize(characterCode)
+                + stringSize(content));
+
+    Long id = message.getId();
+    UUID senderId = message.getSenderId();
+    LocalDateTime timestamp = message.getTimestamp();
+    byte flags = 0;
+    if (id != null) {
+      flags |= FLAG_ID;
+    }
+    if (senderId != null) {
+      flags |= FLAG_SENDER;
+    }
+    if (timestamp != null) {
+      flags |= FLAG_TIMESTAMP;
+    }
+
+    buffer.put(VERSION).put(typeCode(message.getType())).put(flags);
+    if (id != null) {
+      buffer.putLong(id);
+    }
+    if (senderId != null) {
+      buffer.putLong(senderId.getMostSignificantBits());
+      buffer.putLong(senderId.getLeastSignificantBits());
+    }
+    if (timestamp != null) {
+      buffer.putLong(timestamp.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+    putString(buffer, originBytes);
+    putString(buffer, roomId);
+    putString(buffer, nickname);
+    putString(buffer, characterCode);
+    putString(buffer, content);
+
+    // 생략된 고정 필드만큼 잘라낸다
+    byte[] encoded = new byte[buffer.position()];
+    System.arraycopy(buffer.array(), 0, encoded, 0, encoded.length);
+    return encoded;
+  }
+
+  /**
+   * 메시지 디코딩
+   *
+   * @param bytes {@link #encode}로 만든 바이트
+   * @return 발신 노드 ID와 메시지
+   * @throws IllegalArgumentException 형식이 맞지 않을 때
+   */
+  public static Frame decode(byte[] bytes) {
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      byte version = buffer.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("지원하지 않는 채팅 메시지 버전: " + version);
+      }
+      ChatMessage.MessageType type = messageType(buffer.get());
+      byte flags = buffer.get();
+
+      Long id = null;
+      if ((flags & FLAG_ID) != 0) {
+        id = buffer.getLong();
+      }
+      UUID senderId = null;
+      if ((flags & FLAG_SENDER) != 0) {
+        senderId = new UUID(buffer.getLong(), buffer.getLong());
+      }
+      LocalDateTime timestamp = null;
+      if ((flags & FLAG_TIMESTAMP) != 0) {
+        long epochMilli = buffer.getLong();
+        timestamp =
+            LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000,
+                ZoneOffset.UTC);
+      }
+      String origin = getString(buffer);
+
+      ChatMessage message =
+          ChatMessage.builder()
+              .id(id)
+              .type(type)
+              .senderId(senderId)
+              .timestamp(timestamp)
+              .roomId(getString(buffer))
+              .senderNickname(getString(buffer))
+              .senderCharacterCode(getString(buffer))
+              .content(getString(buffer))
+              .build();
+      return new Frame(origin, message);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("잘못된 채팅 메시지 형식입니다.", e);
+    }
+  }
+
+  /** 디코딩 결과 */
+  @Getter
+  @RequiredArgsConstructor
+  public static final class Frame {
+
+    /** 발신 노드 ID */
+    private final String origin;
+
+    /** 채팅 메시지 */
+    private final ChatMessage message;
+  }
+
+  private static byte typeCode(ChatMessage.MessageType type) {
+    if (type == null) {
+      return TYPE_NONE;
+    }
+    return switch (type) {
+      case CHAT -> TYPE_CHAT;
+      case JOIN -> TYPE_JOIN;
+      case LEAVE -> TYPE_LEAVE;
+    };
+  }
+
+  private static ChatMessage.MessageType messageType(byte code) {
+    return switch (code) {
+      case TYPE_NONE -> null;
+      case TYPE_CHAT -> ChatMessage.MessageType.CHAT;
+      case TYPE_JOIN -> ChatMessage.MessageType.JOIN;
+      case TYPE_LEAVE -> ChatMessage.MessageType.LEAVE;
+      default -> throw new IllegalArgumentException("알 수 없는 채팅 메시지 타입: " + code);
+    };
+  }
+
+  private static byte[] utf8(String value) {
+    return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int stringSize(byte[] value) {
+    return MAX_VARINT_SIZE + (value == null ? 0 : value.length);
+  }
+
+  private static void putString(ByteBuffer buffer, byte[] value) {
+    if (value == null) {
+      buffer.put((byte) 0);
+      return;
+    }
+    int length = value.length + 1;
+    while ((length & ~0x7F) != 0) {
+      buffer.put((byte) ((length & 0x7F) | 0x80));
+      length >>>= 7;
+    }
+    buffer.put((byte) length);
+    buffer.put(value);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = 0;
+    int shift = 0;
+    byte b;
+    do {
+      if (shift > 28) {
+        throw new IllegalArgumentException("잘못된 문자열 길이입니다.");
+      }
+      b = buffer.get();
+      length |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+
+    if (length == 0) {
+      return null;
+    }
+    int size = length - 1;
+    if (size < 0 || size > buffer.remaining()) {
+      throw new IllegalArgumentException("잘못된 문자열 길이입니다.");
+    }
+    String value = new String(buffer.array(), buffer.position(), size, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + size);
+    return value;
+  }
+}
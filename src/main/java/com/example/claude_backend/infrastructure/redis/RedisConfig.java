@@ -11,6 +11,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -52,6 +53,19 @@ public class RedisConfig {
     return template;
   }
 
+  /** 채팅 Pub/Sub 전용 Redis Template 키와 값을 바이트 그대로 전달 (값은 {@link ChatMessageCodec}으로 인코딩) */
+  @Bean
+  public RedisTemplate<byte[], byte[]> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+    RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.byteArray());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.setHashKeySerializer(RedisSerializer.byteArray());
+    template.setHashValueSerializer(RedisSerializer.byteArray());
+    template.afterPropertiesSet();
+    return template;
+  }
+
   /** Redis 메시지 리스너 컨테이너 설정 Pub/Sub 메시지 수신을 위한 설정 */
   @Bean
   public RedisMessageListenerContainer redisMessageListenerContainer(
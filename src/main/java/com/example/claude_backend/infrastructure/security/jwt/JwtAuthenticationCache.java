@@ -0,0 +1,119 @@
+package com.example.claude_backend.infrastructure.security.jwt;
+
+import com.example.claude_backend.infrastructure.security.principal.UserPrincipalStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 토큰 캐시
+ *
+ * <p>토큰의 서명 부분을 키로 검증 결과(사용자 ID, 만료 시각)를 보관한다. 캐시에 있는 토큰은 서명 검증 없이 {@link UserPrincipalStore}의 인증
+ * 객체로 바로 인증되며, 항목은 토큰의 만료 시각에 함께 만료된다. 서명이 같아도 header.payload가 다르면 캐시를 사용하지 않는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationCache {
+
+  private final JwtTokenProvider jwtTokenProvider;
+  private final UserPrincipalStore userPrincipalStore;
+  private final Cache<String, CachedAuthentication> cache;
+
+  public JwtAuthenticationCache(
+      JwtTokenProvider jwtTokenProvider,
+      UserPrincipalStore userPrincipalStore,
+      @Value("${app.auth.token-cache.max-size:10000}") long maxSize) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.userPrincipalStore = userPrincipalStore;
+    this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new TokenExpiry()).build();
+  }
+
+  /**
+   * 토큰으로 인증 객체 조회
+   *
+   * @param token JWT 토큰
+   * @return 인증 객체 (유효하지 않은 토큰이면 null)
+   */
+  public Authentication authenticate(String token) {
+    int signatureStart = token.lastIndexOf('.') + 1;
+    if (signatureStart <= 1 || signatureStart == token.length()) {
+      return null;
+    }
+
+    String signature = token.substring(signatureStart);
+    CachedAuthentication cached = cache.getIfPresent(signature);
+    if (cached != null && cached.matches(token, signatureStart - 1)) {
+      return userPrincipalStore.getAuthentication(cached.userId);
+    }
+
+    Claims claims = jwtTokenProvider.getVerifiedClaims(token);
+    if (claims == null || claims.getExpiration() == null) {
+      return null;
+    }
+
+    UUID userId = UUID.fromString(claims.getSubject());
+    Authentication authentication = userPrincipalStore.getAuthentication(userId);
+
+    cache.put(
+        signature,
+        new CachedAuthentication(
+            token.substring(0, signatureStart - 1), userId, claims.getExpiration().getTime()));
+    log.debug("JWT 인증 캐시 저장 - 사용자 ID: {}", userId);
+    return authentication;
+  }
+
+  /** 캐시된 인증 정보 */
+  private static final class CachedAuthentication {
+    private final String signingInput; // header.payload
+    private final UUID userId;
+    private final long expiresAtMillis;
+
+    private CachedAuthentication(String signingInput, UUID userId, long expiresAtMillis) {
+      this.signingInput = signingInput;
+      this.userId = userId;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+
+    private boolean matches(String token, int signingInputLength) {
+      return signingInputLength == signingInput.length()
+          && token.regionMatches(0, signingInput, 0, signingInputLength)
+          && System.currentTimeMillis() < expiresAtMillis;
+    }
+  }
+
+  /** 항목별 만료 시각 = 토큰 만료 시각 */
+  private static final class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+      return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    private static long remainingNanos(CachedAuthentication value) {
+      long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+  }
+}
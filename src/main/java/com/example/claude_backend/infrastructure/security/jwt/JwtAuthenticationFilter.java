@@ -1,17 +1,13 @@
 package com.example.claude_backend.infrastructure.security.jwt;
 
-import com.example.claude_backend.application.user.service.UserService;
-import com.example.claude_backend.domain.user.entity.User;
-import com.example.claude_backend.infrastructure.security.oauth2.OAuth2UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,8 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtTokenProvider jwtTokenProvider;
-  private final UserService userService;
+  private final JwtAuthenticationCache jwtAuthenticationCache;
 
   @Override
   protected void doFilterInternal(
@@ -40,25 +35,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       // Authorization 헤더에서 토큰 추출
       String token = getTokenFromRequest(request);
 
-      if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-        // 토큰에서 사용자 ID 추출
-        UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-
-        // 사용자 정보 로드 (트랜잭션 내에서 처리)
-        User user = userService.getUserEntityWithRolesById(userId);
-
-        if (user != null) {
-          // OAuth2UserPrincipal 생성 (roles 컬렉션이 이미 로드된 상태)
-          OAuth2UserPrincipal principal = OAuth2UserPrincipal.create(user);
-
-          // 인증 객체 생성
-          UsernamePasswordAuthenticationToken authentication =
-              new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+      if (StringUtils.hasText(token)) {
+        // 검증된 토큰은 캐시에서 바로 인증 (서명 검증/사용자 조회 생략)
+        Authentication authentication = jwtAuthenticationCache.authenticate(token);
 
+        if (authentication != null) {
           // SecurityContext에 인증 정보 설정
           SecurityContextHolder.getContext().setAuthentication(authentication);
 
-          log.debug("JWT 인증 성공 - 사용자 ID: {}", userId);
+          log.debug("JWT 인증 성공 - 사용자: {}", authentication.getName());
         }
       }
     } catch (Exception e) {
@@ -24,6 +24,7 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
 
   private final Key key;
+  private final JwtParser jwtParser;
   private final long tokenExpiry;
   private final long refreshTokenExpiry;
 
@@ -38,6 +39,8 @@ public class JwtTokenProvider {
 
     // Base64 디코딩 없이 직접 사용
     this.key = Keys.hmacShaKeyFor(tokenSecret.getBytes(StandardCharsets.UTF_8));
+    // JwtParser는 불변/스레드 안전하므로 한 번만 생성해 재사용
+    this.jwtParser = Jwts.parser().verifyWith((SecretKey) key).build();
     this.tokenExpiry = tokenExpiry;
     this.refreshTokenExpiry = refreshTokenExpiry;
   }
@@ -97,26 +100,29 @@ public class JwtTokenProvider {
    * @return 사용자 ID
    */
   public UUID getUserIdFromToken(String token) {
-    Claims claims =
-        Jwts.parser()
-            .verifyWith((SecretKey) key) // setSigningKey 대신 verifyWith 사용
-            .build()
-            .parseSignedClaims(token) // parseClaimsJws 대신 parseSignedClaims
-            .getPayload(); // getBody() 대신 getPayload()
-
-    return UUID.fromString(claims.getSubject());
+    return UUID.fromString(parseClaims(token).getSubject());
   }
 
   /**
-   * JWT 토큰 유효성 검증
+   * JWT 토큰 서명 검증 후 클레임 조회
    *
    * @param token JWT 토큰
-   * @return 유효 여부
+   * @return 클레임
+   * @throws JwtException 유효하지 않은 토큰인 경우
    */
-  public boolean validateToken(String token) {
+  public Claims parseClaims(String token) {
+    return jwtParser.parseSignedClaims(token).getPayload();
+  }
+
+  /**
+   * JWT 토큰 검증 후 클레임 조회 (유효하지 않으면 null)
+   *
+   * @param token JWT 토큰
+   * @return 클레임 또는 null
+   */
+  public Claims getVerifiedClaims(String token) {
     try {
-      Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token);
-      return true;
+      return parseClaims(token);
     } catch (SecurityException ex) {
       log.error("잘못된 JWT 서명입니다.");
     } catch (MalformedJwtException ex) {
@@ -127,8 +133,20 @@ public class JwtTokenProvider {
       log.error("지원하지 않는 JWT 토큰입니다.");
     } catch (IllegalArgumentException ex) {
       log.error("JWT 토큰이 비어있습니다.");
+    } catch (JwtException ex) {
+      log.error("유효하지 않은 JWT 토큰입니다: {}", ex.getMessage());
     }
-    return false;
+    return null;
+  }
+
+  /**
+   * JWT 토큰 유효성 검증
+   *
+   * @param token JWT 토큰
+   * @return 유효 여부
+   */
+  public boolean validateToken(String token) {
+    return getVerifiedClaims(token) != null;
   }
 
   /**
@@ -139,10 +157,7 @@ public class JwtTokenProvider {
    */
   public boolean isRefreshToken(String token) {
     try {
-      Claims claims =
-          Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token).getPayload();
-
-      return "refresh".equals(claims.get("type"));
+      return "refresh".equals(parseClaims(token).get("type"));
     } catch (Exception e) {
       return false;
     }
@@ -155,9 +170,6 @@ public class JwtTokenProvider {
    * @return 만료 시간
    */
   public Date getTokenExpiry(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token).getPayload();
-
-    return claims.getExpiration();
+    return parseClaims(token).getExpiration();
   }
 }
@@ -1,6 +1,7 @@
 package com.example.claude_backend.infrastructure.security.oauth2;
 
 import com.example.claude_backend.domain.user.entity.User;
+import com.example.claude_backend.infrastructure.security.principal.UserPrincipalSnapshot;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +62,22 @@ public class OAuth2UserPrincipal implements OAuth2User, UserDetails {
     return create(user, Collections.emptyMap());
   }
 
+  /**
+   * 캐시된 사용자 스냅샷으로부터 OAuth2UserPrincipal 생성 (JWT용)
+   *
+   * @param snapshot 사용자 인증 정보 스냅샷
+   * @return OAuth2UserPrincipal
+   */
+  public static OAuth2UserPrincipal create(UserPrincipalSnapshot snapshot) {
+    List<GrantedAuthority> authorities =
+        snapshot.getRoles().stream()
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toUnmodifiableList());
+
+    return new OAuth2UserPrincipal(
+        snapshot.getId(), snapshot.getEmail(), null, authorities, Collections.emptyMap());
+  }
+
   // OAuth2User 구현
   @Override
   public Map<String, Object> getAttributes() {
@@ -0,0 +1,55 @@
+package com.example.claude_backend.infrastructure.security.principal;
+
+import com.example.claude_backend.application.chat.identity.ChatSenderIdentityStore;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발행한 사용자 인증 정보 무효화 메시지 수신
+ *
+ * <p>인증 정보 캐시를 비우고, 접속 중인 사용자라면 채팅 발신자 정보도 다시 로드한다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalInvalidationSubscriber implements MessageListener {
+
+  private final UserPrincipalStore userPrincipalStore;
+  private final ChatSenderIdentityStore chatSenderIdentityStore;
+  private final RedisMessageListenerContainer container;
+
+  /** 시작 후 채널 구독 (Redis에 연결할 수 없으면 노드 로컬 무효화와 TTL 만료만 사용) */
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    try {
+      container.addMessageListener(this, new ChannelTopic(UserPrincipalStore.INVALIDATION_CHANNEL));
+      log.info("사용자 인증 정보 무효화 채널 구독 완료");
+    } catch (RuntimeException e) {
+      log.warn("사용자 인증 정보 무효화 채널 구독 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      UUID userId = UUID.fromString(body);
+      userPrincipalStore.evict(userId);
+      chatSenderIdentityStore.refresh(userId);
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 사용자 인증 정보 무효화 메시지: {}", body);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.claude_backend.infrastructure.security.principal;
+
+import com.example.claude_backend.domain.user.entity.User;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증에 필요한 사용자 정보 스냅샷 (불변)
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipalSnapshot {
+
+  private final UUID id;
+  private final String email;
+  private final String nickname;
+  private final Set<String> roles;
+
+  /** User 엔티티로부터 스냅샷 생성 (roles가 로드된 상태여야 함) */
+  public static UserPrincipalSnapshot from(User user) {
+    Set<String> roles =
+        user.getRoles().stream()
+            .map(role -> role.getRoleName().name())
+            .collect(Collectors.toUnmodifiableSet());
+    return new UserPrincipalSnapshot(user.getId(), user.getEmail(), user.getNickname(), roles);
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.claude_backend.infrastructure.security.principal;
+
+import com.example.claude_backend.application.user.event.UserChangedEvent;
+import com.example.claude_backend.application.user.service.UserService;
+import com.example.claude_backend.infrastructure.security.oauth2.OAuth2UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 인증 정보 저장소
+ *
+ * <p>사용자 ID별로 인증에 필요한 정보(id, 이메일, 닉네임, 권한)와 이를 담은 인증 객체를 크기 제한 캐시에 보관한다. 사용자 정보가 변경되면 커밋 후 로컬 캐시를
+ * 비우고 Redis 채널로 다른 노드에도 무효화를 알린다. Redis 메시지가 유실되더라도 항목은 TTL 후 다시 로드된다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class UserPrincipalStore {
+
+  /** 사용자 인증 정보 무효화 채널 (메시지 본문: 사용자 ID) */
+  public static final String INVALIDATION_CHANNEL = "user.principal.invalidate";
+
+  private final UserService userService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Cache<UUID, Entry> cache;
+
+  public UserPrincipalStore(
+      UserService userService,
+      StringRedisTemplate stringRedisTemplate,
+      @Value("${app.auth.principal-cache.max-size:10000}") long maxSize,
+      @Value("${app.auth.principal-cache.ttl-seconds:600}") long ttlSeconds) {
+    this.userService = userService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  /** 사용자 인증 객체 조회 (캐시에 없으면 DB에서 로드) */
+  public Authentication getAuthentication(UUID userId) {
+    return cache.get(userId, this::load).authentication;
+  }
+
+  /** 사용자 인증 정보 스냅샷 조회 (캐시에 없으면 DB에서 로드) */
+  public UserPrincipalSnapshot getSnapshot(UUID userId) {
+    return cache.get(userId, this::load).snapshot;
+  }
+
+  /** 로컬 캐시에서 사용자 제거 */
+  public void evict(UUID userId) {
+    cache.invalidate(userId);
+  }
+
+  /** 사용자 정보 변경 커밋 후 로컬 캐시 제거 및 다른 노드에 전파 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    UUID userId = event.getUserId();
+    evict(userId);
+    try {
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+    } catch (RuntimeException e) {
+      log.warn("사용자 인증 정보 무효화 전파 실패 - 사용자: {}, 원인: {}", userId, e.getMessage());
+    }
+    log.debug("사용자 인증 정보 무효화 - 사용자: {}", userId);
+  }
+
+  private Entry load(UUID userId) {
+    UserPrincipalSnapshot snapshot =
+        UserPrincipalSnapshot.from(userService.getUserEntityWithRolesById(userId));
+    OAuth2UserPrincipal principal = OAuth2UserPrincipal.create(snapshot);
+    Authentication authentication =
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    return new Entry(snapshot, authentication);
+  }
+
+  private static final class Entry {
+    private final UserPrincipalSnapshot snapshot;
+    private final Authentication authentication;
+
+    private Entry(UserPrincipalSnapshot snapshot, Authentication authentication) {
+      this.snapshot = snapshot;
+      this.authentication = authentication;
+    }
+  }
+}
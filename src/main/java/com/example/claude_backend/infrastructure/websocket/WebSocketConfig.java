@@ -1,10 +1,16 @@
 package com.example.claude_backend.infrastructure.websocket;
 
+import com.example.claude_backend.infrastructure.websocket.config.ChannelExecutorFactory;
+import com.example.claude_backend.infrastructure.websocket.handler.ChatRoomSubscriptionInterceptor;
+import com.example.claude_backend.infrastructure.websocket.handler.ChatSenderChannelInterceptor;
 import com.example.claude_backend.infrastructure.websocket.handler.WebSocketHandshakeInterceptor;
+import com.example.claude_backend.infrastructure.websocket.ratelimit.ChatRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -26,8 +32,41 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+  private final ChatSenderChannelInterceptor chatSenderChannelInterceptor;
+  private final ChatRoomSubscriptionInterceptor chatRoomSubscriptionInterceptor;
+  private final ChatRateLimitInterceptor chatRateLimitInterceptor;
+  private final ChannelExecutorFactory channelExecutorFactory;
 
-  /** TaskScheduler 빈 등록 (heartbeat 지원용) */
+  /** 세션별 전송 대기 버퍼 한도 (초과하면 느린 클라이언트로 보고 세션 종료) */
+  @Value("${app.websocket.send-buffer-size-limit:131072}")
+  private int sendBufferSizeLimit;
+
+  /** 한 번의 전송에 허용하는 최대 시간 */
+  @Value("${app.websocket.send-time-limit-ms:10000}")
+  private int sendTimeLimit;
+
+  @Value("${app.websocket.inbound.core-pool-size:8}")
+  private int inboundCorePoolSize;
+
+  @Value("${app.websocket.inbound.max-pool-size:32}")
+  private int inboundMaxPoolSize;
+
+  @Value("${app.websocket.inbound.queue-capacity:10000}")
+  private int inboundQueueCapacity;
+
+  @Value("${app.websocket.outbound.core-pool-size:8}")
+  private int outboundCorePoolSize;
+
+  @Value("${app.websocket.outbound.max-pool-size:32}")
+  private int outboundMaxPoolSize;
+
+  @Value("${app.websocket.outbound.queue-capacity:10000}")
+  private int outboundQueueCapacity;
+
+  @Value("${app.websocket.executor-keep-alive-seconds:60}")
+  private int executorKeepAliveSeconds;
+
+  /** 브로커 heartbeat 전용 스케줄러 (애플리케이션 주기 작업은 SchedulingConfig의 스케줄러 사용) */
   @Bean
   public TaskScheduler taskScheduler() {
     ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -69,14 +108,44 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     log.info("STOMP 메시지 브로커 설정 완료 (인메모리 + Redis Pub/Sub)");
   }
 
+  /** 클라이언트 인바운드 채널 설정 (채팅 전송 빈도 제한, CONNECT 시 채팅 발신자 정보 등록, 채팅방 구독 인원 확인) */
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(
+        channelExecutorFactory.create(
+            "inbound",
+            inboundCorePoolSize,
+            inboundMaxPoolSize,
+            inboundQueueCapacity,
+            executorKeepAliveSeconds));
+    registration.interceptors(
+        chatRateLimitInterceptor, chatSenderChannelInterceptor, chatRoomSubscriptionInterceptor);
+  }
+
+  /** 클라이언트 아웃바운드 채널 설정 (브로커 -> 클라이언트 전송) */
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(
+        channelExecutorFactory.create(
+            "outbound",
+            outboundCorePoolSize,
+            outboundMaxPoolSize,
+            outboundQueueCapacity,
+            executorKeepAliveSeconds));
+  }
+
   /** WebSocket 전송 설정 t2.micro 최적화를 위한 설정 */
   @Override
   public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    // 시세는 종목별로 주기당 최신 1건만 보내므로, 버퍼가 쌓이는 클라이언트는 오래 기다리지 않고 끊는다
     registration
         .setMessageSizeLimit(64 * 1024) // 64KB
-        .setSendBufferSizeLimit(512 * 1024) // 512KB
-        .setSendTimeLimit(20000); // 20초
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setSendTimeLimit(sendTimeLimit);
 
-    log.info("WebSocket 전송 설정 완료 (t2.micro 최적화)");
+    log.info(
+        "WebSocket 전송 설정 완료 (t2.micro 최적화) - 전송 버퍼: {}B, 전송 제한 시간: {}ms",
+        sendBufferSizeLimit,
+        sendTimeLimit);
   }
 }
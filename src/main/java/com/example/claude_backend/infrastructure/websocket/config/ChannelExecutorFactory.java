@@ -0,0 +1,100 @@
+package com.example.claude_backend.infrastructure.websocket.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 클라이언트 채널 실행기 생성
+ *
+ * <p>실행기마다 Micrometer 지표를 등록한다 ({@code channel} 태그로 구분, Actuator {@code /actuator/metrics}에서 조회).
+ *
+ * <ul>
+ *   <li>{@code websocket.channel.pool.size}, {@code websocket.channel.active} - 스레드 수, 실행 중인 작업 수
+ *   <li>{@code websocket.channel.queue.size} - 대기 중인 작업 수
+ *   <li>{@code websocket.channel.task.wait}, {@code websocket.channel.task.duration} - 큐 대기 시간, 처리
+ *       시간
+ * </ul>
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelExecutorFactory {
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 채널 실행기 생성 (초기화와 종료는 STOMP 설정이 실행기를 빈으로 등록해 처리)
+   *
+   * @param channel 채널 이름 (지표 태그, 스레드 이름 접두사)
+   * @param corePoolSize 기본 스레드 수
+   * @param maxPoolSize 최대 스레드 수 (큐가 가득 찬 뒤에만 늘어남)
+   * @param queueCapacity 대기 큐 크기
+   * @param keepAliveSeconds 유휴 스레드 유지 시간
+   */
+  public ThreadPoolTaskExecutor create(
+      String channel, int corePoolSize, int maxPoolSize, int queueCapacity, int keepAliveSeconds) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("ws-" + channel + "-");
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setKeepAliveSeconds(keepAliveSeconds);
+    executor.setAllowCoreThreadTimeOut(true);
+
+    Tags tags = Tags.of("channel", channel);
+    Gauge.builder("websocket.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+        .tags(tags)
+        .description("채널 실행기 스레드 수")
+        .register(meterRegistry);
+    Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .tags(tags)
+        .description("채널 실행기에서 실행 중인 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("websocket.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .tags(tags)
+        .description("채널 실행기 대기 작업 수")
+        .register(meterRegistry);
+    Timer waitTimer =
+        Timer.builder("websocket.channel.task.wait")
+            .tags(tags)
+            .description("채널 작업 큐 대기 시간")
+            .register(meterRegistry);
+    Timer durationTimer =
+        Timer.builder("websocket.channel.task.duration")
+            .tags(tags)
+            .description("채널 작업 처리 시간")
+            .register(meterRegistry);
+
+    executor.setTaskDecorator(
+        task -> {
+          long queuedAt = System.nanoTime();
+          return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+            try {
+              task.run();
+            } finally {
+              durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+          };
+        });
+
+    log.info(
+        "STOMP {} 채널 실행기 - core: {}, max: {}, queue: {}",
+        channel,
+        corePoolSize,
+        maxPoolSize,
+        queueCapacity);
+    return executor;
+  }
+}
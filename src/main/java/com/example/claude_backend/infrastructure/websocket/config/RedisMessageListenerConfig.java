@@ -1,21 +1,39 @@
 package com.example.claude_backend.infrastructure.websocket.config;
 
+import com.example.claude_backend.application.chat.service.ChatBroadcaster;
+import com.example.claude_backend.infrastructure.websocket.listener.RedisMessageListener;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
- * Redis 메시지 리스너 설정 (임시 비활성화) Redis Pub/Sub을 통한 WebSocket 메시지 브로드캐스트
+ * Redis 메시지 리스너 설정 Redis Pub/Sub을 통한 WebSocket 메시지 브로드캐스트
+ *
+ * <p>시작 후 {@code chat.room.*} 패턴을 구독한다. Redis에 연결할 수 없으면 채팅은 현재 노드 안에서만 전달된다.
  *
  * @author AI Assistant
  * @since 2025-01-20
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class RedisMessageListenerConfig {
-  // 임시로 WebSocket 기능 비활성화
-  // TODO: WebSocket 의존성 문제 해결 후 활성화
 
-  public RedisMessageListenerConfig() {
-    log.info("Redis 메시지 리스너 설정이 임시로 비활성화되었습니다.");
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final RedisMessageListener redisMessageListener;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribeChatRooms() {
+    try {
+      redisMessageListenerContainer.addMessageListener(
+          redisMessageListener, new PatternTopic(ChatBroadcaster.CHANNEL_PREFIX + "*"));
+      log.info("채팅 채널 구독 완료: {}*", ChatBroadcaster.CHANNEL_PREFIX);
+    } catch (RuntimeException e) {
+      log.warn("채팅 채널 구독 실패 - 현재 노드 안에서만 전달됩니다: {}", e.getMessage());
+    }
   }
 }
@@ -0,0 +1,52 @@
+package com.example.claude_backend.infrastructure.websocket.handler;
+
+import com.example.claude_backend.application.chat.presence.ChatRoomAdmission;
+import com.example.claude_backend.application.chat.service.ChatBroadcaster;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 구독 입장 확인 인터셉터 (클라이언트 인바운드 채널)
+ *
+ * <p>{@code /topic/room.{roomId}} SUBSCRIBE 시 세션을 채팅방 접속자로 등록한다. 최대 인원을 넘으면 구독을 거절하므로(STOMP ERROR
+ * 프레임), {@code /app/chat.join} 없이 구독만으로 인원 제한을 우회할 수 없다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionInterceptor implements ChannelInterceptor {
+
+  private final ChatRoomAdmission chatRoomAdmission;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null
+        || accessor.getCommand() != StompCommand.SUBSCRIBE
+        || accessor.getDestination() == null
+        || !accessor.getDestination().startsWith(ChatBroadcaster.DESTINATION_PREFIX)) {
+      return message;
+    }
+
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    if (attributes == null || !(attributes.get("userId") instanceof UUID userId)) {
+      throw new MessageDeliveryException(message, "인증되지 않은 세션은 채팅방을 구독할 수 없습니다.");
+    }
+    String roomId =
+        accessor.getDestination().substring(ChatBroadcaster.DESTINATION_PREFIX.length());
+    chatRoomAdmission.admit(roomId, userId, accessor.getSessionId());
+    return message;
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.claude_backend.infrastructure.websocket.handler;
+
+import com.example.claude_backend.application.chat.identity.ChatSenderIdentityStore;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 시 채팅 발신자 정보를 세션 속성에 등록하는 인터셉터
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSenderChannelInterceptor implements ChannelInterceptor {
+
+  private final ChatSenderIdentityStore chatSenderIdentityStore;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+      return message;
+    }
+
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    if (attributes == null
+        || !(attributes.get("userId") instanceof UUID userId)
+        || attributes.containsKey(ChatSenderIdentityStore.SESSION_ATTRIBUTE)) {
+      return message;
+    }
+
+    try {
+      attributes.put(
+          ChatSenderIdentityStore.SESSION_ATTRIBUTE, chatSenderIdentityStore.attach(userId));
+    } catch (RuntimeException e) {
+      // 등록하지 못하면 메시지 처리 시 DB에서 조회한다
+      log.warn("채팅 발신자 정보 등록 실패 - 사용자: {}, 원인: {}", userId, e.getMessage());
+    }
+    return message;
+  }
+}
@@ -1,21 +1,91 @@
 package com.example.claude_backend.infrastructure.websocket.handler;
 
+import com.example.claude_backend.application.chat.identity.ChatSenderIdentityStore;
+import com.example.claude_backend.application.chat.service.ChatService;
+import com.example.claude_backend.infrastructure.websocket.session.WebSocketSessionRegistry;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 /**
- * WebSocket 이벤트 핸들러 (임시 비활성화) 연결, 메시지, 오류 이벤트 처리
+ * WebSocket 이벤트 핸들러 연결, 구독, 연결 종료 이벤트 처리
+ *
+ * <p>세션과 채팅방 구독은 {@link WebSocketSessionRegistry}에 기록한다. {@code /app/chat.leave} 없이 연결이 끊겨도 세션이 접속해
+ * 있던 채팅방에서 퇴장 처리한다.
  *
  * @author AI Assistant
  * @since 2025-01-20
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventHandler {
-  // 임시로 WebSocket 기능 비활성화
-  // TODO: WebSocket 의존성 문제 해결 후 활성화
 
-  public WebSocketEventHandler() {
-    log.info("WebSocket 이벤트 핸들러가 임시로 비활성화되었습니다.");
+  private final ChatService chatService;
+  private final ChatSenderIdentityStore chatSenderIdentityStore;
+  private final WebSocketSessionRegistry webSocketSessionRegistry;
+
+  /** WebSocket 연결 완료 시 세션 등록 */
+  @EventListener
+  public void handleSessionConnected(SessionConnectedEvent event) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+    UUID userId = connectUserId(accessor);
+    webSocketSessionRegistry.connect(accessor.getSessionId(), userId);
+    log.debug("WebSocket 연결 - 세션: {}, 사용자: {}", accessor.getSessionId(), userId);
+  }
+
+  /** 채팅방 구독 기록 */
+  @EventListener
+  public void handleSessionSubscribe(SessionSubscribeEvent event) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+    webSocketSessionRegistry.subscribe(
+        accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+  }
+
+  /** 채팅방 구독 해제 기록 */
+  @EventListener
+  public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+    webSocketSessionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+  }
+
+  /** WebSocket 연결 종료 시 구독, 채팅방 접속 정보, 발신자 정보 정리 */
+  @EventListener
+  public void handleSessionDisconnect(SessionDisconnectEvent event) {
+    try {
+      chatService.disconnect(event.getSessionId());
+    } catch (RuntimeException e) {
+      log.warn("연결 종료 처리 실패 - 세션: {}, 원인: {}", event.getSessionId(), e.getMessage());
+    }
+
+    // 퇴장 메시지 전송 후 발신자 정보 해제
+    Map<String, Object> attributes =
+        SimpMessageHeaderAccessor.getSessionAttributes(event.getMessage().getHeaders());
+    if (attributes != null
+        && attributes.remove(ChatSenderIdentityStore.SESSION_ATTRIBUTE) != null
+        && attributes.get("userId") instanceof UUID userId) {
+      chatSenderIdentityStore.detach(userId);
+    }
+    webSocketSessionRegistry.disconnect(event.getSessionId(), event.getTimestamp());
+  }
+
+  /** CONNECTED 응답에는 세션 속성이 없으므로 원래 CONNECT 메시지에서 사용자 ID를 찾는다 */
+  private UUID connectUserId(SimpMessageHeaderAccessor accessor) {
+    if (!(accessor.getHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER)
+        instanceof Message<?> connectMessage)) {
+      return null;
+    }
+    Map<String, Object> attributes =
+        SimpMessageHeaderAccessor.getSessionAttributes(connectMessage.getHeaders());
+    return attributes != null && attributes.get("userId") instanceof UUID userId ? userId : null;
   }
 }
@@ -1,21 +1,35 @@
 package com.example.claude_backend.infrastructure.websocket.listener;
 
+import com.example.claude_backend.application.chat.service.ChatBroadcaster;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Redis 메시지 리스너 (임시 비활성화) Redis Pub/Sub 메시지를 WebSocket으로 브로드캐스트
+ * Redis 메시지 리스너 Redis Pub/Sub 메시지를 WebSocket으로 브로드캐스트
+ *
+ * <p>다른 노드가 {@code chat.room.*} 채널로 발행한 채팅 메시지를 현재 노드의 STOMP 구독자에게 전달한다.
  *
  * @author AI Assistant
  * @since 2025-01-20
  */
 @Slf4j
 @Component
-public class RedisMessageListener {
-  // 임시로 WebSocket 기능 비활성화
-  // TODO: WebSocket 의존성 문제 해결 후 활성화
+@RequiredArgsConstructor
+public class RedisMessageListener implements MessageListener {
+
+  private final ChatBroadcaster chatBroadcaster;
 
-  public RedisMessageListener() {
-    log.info("Redis 메시지 리스너가 임시로 비활성화되었습니다.");
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    try {
+      chatBroadcaster.deliverRemote(channel, message.getBody());
+    } catch (RuntimeException e) {
+      log.warn("Redis 채팅 메시지 전달 실패 - 채널: {}, 원인: {}", channel, e.getMessage());
+    }
   }
 }
@@ -0,0 +1,132 @@
+package com.example.claude_backend.infrastructure.websocket.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 전송 빈도 제한 인터셉터 (클라이언트 인바운드 채널)
+ *
+ * <p>{@code /app/chat.send} SEND 프레임을 세션별, 채팅방별 {@link TokenBucket}으로 제한하고 초과한 프레임은 컨트롤러에 전달하지 않고
+ * 버린다(Redis 발행, 브로드캐스트 없음). 세션 버킷은 세션 속성에 두어 연결이 끊기면 함께 사라지고, 채팅방 버킷은 크기 제한 캐시에 둔다. 채팅방 ID는 본문
+ * JSON에서 {@code roomId} 필드까지만 읽어 찾는다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Slf4j
+@Component
+public class ChatRateLimitInterceptor implements ChannelInterceptor {
+
+  /** 제한 대상 목적지 */
+  private static final String SEND_DESTINATION = "/app/chat.send";
+
+  private static final String SESSION_BUCKET_ATTRIBUTE = "chatRateLimit";
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final int sessionBurst;
+  private final double sessionPermitsPerSecond;
+  private final LoadingCache<String, TokenBucket> roomBuckets;
+  private final Counter sessionDroppedCounter;
+  private final Counter roomDroppedCounter;
+
+  public ChatRateLimitInterceptor(
+      MeterRegistry meterRegistry,
+      @Value("${app.chat.rate-limit.session-burst:10}") int sessionBurst,
+      @Value("${app.chat.rate-limit.session-per-second:5}") double sessionPermitsPerSecond,
+      @Value("${app.chat.rate-limit.room-burst:100}") int roomBurst,
+      @Value("${app.chat.rate-limit.room-per-second:50}") double roomPermitsPerSecond,
+      @Value("${app.chat.rate-limit.max-rooms:10000}") long maxRooms) {
+    this.sessionBurst = sessionBurst;
+    this.sessionPermitsPerSecond = sessionPermitsPerSecond;
+    // 가득 찬 버킷은 버려도 동작이 같으므로, 다 채워질 시간만큼 사용이 없으면 제거
+    this.roomBuckets =
+        Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterAccess(
+                Duration.ofMillis((long) Math.ceil(roomBurst * 1000 / roomPermitsPerSecond) + 1))
+            .build(roomId -> new TokenBucket(roomBurst, roomPermitsPerSecond));
+    this.sessionDroppedCounter =
+        Counter.builder("chat.messages.dropped")
+            .tag("scope", "session")
+            .description("전송 빈도 제한으로 버린 채팅 메시지 수")
+            .register(meterRegistry);
+    this.roomDroppedCounter =
+        Counter.builder("chat.messages.dropped")
+            .tag("scope", "room")
+            .description("전송 빈도 제한으로 버린 채팅 메시지 수")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null
+        || accessor.getCommand() != StompCommand.SEND
+        || !SEND_DESTINATION.equals(accessor.getDestination())) {
+      return message;
+    }
+
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    if (attributes != null) {
+      TokenBucket sessionBucket =
+          (TokenBucket)
+              attributes.computeIfAbsent(
+                  SESSION_BUCKET_ATTRIBUTE,
+                  key -> new TokenBucket(sessionBurst, sessionPermitsPerSecond));
+      if (!sessionBucket.tryAcquire()) {
+        sessionDroppedCounter.increment();
+        log.debug("세션 전송 빈도 초과 - 세션: {}", accessor.getSessionId());
+        return null;
+      }
+    }
+
+    String roomId = extractRoomId(message.getPayload());
+    if (roomId != null && !roomBuckets.get(roomId).tryAcquire()) {
+      roomDroppedCounter.increment();
+      log.debug("채팅방 전송 빈도 초과 - 방: {}", roomId);
+      return null;
+    }
+    return message;
+  }
+
+  /** 본문 JSON의 최상위 roomId 값 (없거나 읽을 수 없으면 null) */
+  private String extractRoomId(Object payload) {
+    if (!(payload instanceof byte[] bytes)) {
+      return null;
+    }
+    try (JsonParser parser = jsonFactory.createParser(bytes)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if ("roomId".equals(field)) {
+          return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+        }
+        parser.skipChildren();
+      }
+    } catch (IOException e) {
+      // 형식 오류는 컨트롤러의 변환 단계에서 처리된다
+    }
+    return null;
+  }
+}
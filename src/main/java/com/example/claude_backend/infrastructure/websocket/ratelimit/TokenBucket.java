@@ -0,0 +1,52 @@
+package com.example.claude_backend.infrastructure.websocket.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 토큰 버킷
+ *
+ * <p>GCRA(Generic Cell Rate Algorithm) 방식으로 다음 토큰이 생기는 이론상 시각 하나만 {@link AtomicLong}에 저장하고 CAS로
+ * 갱신한다. 최대 {@code burst}개까지 연속 허용하며, 이후에는 초당 {@code permitsPerSecond}개씩 다시 채워진다.
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+public final class TokenBucket {
+
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicLong theoreticalArrival;
+
+  public TokenBucket(int burst, double permitsPerSecond) {
+    this(burst, permitsPerSecond, System::nanoTime);
+  }
+
+  /** 시계 지정 (테스트용) */
+  TokenBucket(int burst, double permitsPerSecond, LongSupplier nanoClock) {
+    if (burst < 1 || permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("burst는 1 이상, permitsPerSecond는 0보다 커야 합니다.");
+    }
+    this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    this.toleranceNanos = intervalNanos * (burst - 1);
+    this.nanoClock = nanoClock;
+    this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  /** 토큰 하나 사용 (없으면 false) */
+  public boolean tryAcquire() {
+    long now = nanoClock.getAsLong();
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long base = arrival - now > 0 ? arrival : now;
+      if (base - now > toleranceNanos) {
+        return false;
+      }
+      if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
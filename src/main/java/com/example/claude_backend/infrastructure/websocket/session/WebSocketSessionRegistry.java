@@ -0,0 +1,153 @@
+package com.example.claude_backend.infrastructure.websocket.session;
+
+import com.example.claude_backend.application.chat.service.ChatBroadcaster;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 노드의 WebSocket 세션 목록
+ *
+ * <p>세션 ID별로 사용자와 채팅방 구독({@code /topic/room.{roomId}})을 보관해, 연결 종료 시 해당 세션의 구독 수만큼만 정리한다.
+ * Micrometer 지표를 등록한다.
+ *
+ * <ul>
+ *   <li>{@code websocket.sessions.open} - 열린 세션 수
+ *   <li>{@code websocket.subscriptions.room.total}, {@code websocket.subscriptions.room.active} -
+ *       채팅방 구독 수, 구독자가 있는 채팅방 수
+ *   <li>{@code websocket.subscriptions.room.max} - 채팅방별 구독 수 중 최대값
+ *   <li>{@code websocket.session.cleanup.lag} - 연결 종료 이벤트 발생부터 정리 완료까지 걸린 시간
+ * </ul>
+ *
+ * @author AI Assistant
+ * @since 2025-01-20
+ */
+@Component
+public class WebSocketSessionRegistry {
+
+  private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+  private final Map<String, Integer> roomSubscriptions = new ConcurrentHashMap<>();
+  private final AtomicInteger totalRoomSubscriptions = new AtomicInteger();
+  private final Timer cleanupLagTimer;
+
+  public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+    Gauge.builder("websocket.sessions.open", sessions, Map::size)
+        .description("열린 WebSocket 세션 수")
+        .register(meterRegistry);
+    Gauge.builder("websocket.subscriptions.room.total", totalRoomSubscriptions, AtomicInteger::get)
+        .description("채팅방 구독 수")
+        .register(meterRegistry);
+    Gauge.builder("websocket.subscriptions.room.active", roomSubscriptions, Map::size)
+        .description("구독자가 있는 채팅방 수")
+        .register(meterRegistry);
+    Gauge.builder(
+            "websocket.subscriptions.room.max",
+            this,
+            WebSocketSessionRegistry::maxRoomSubscriptions)
+        .description("채팅방별 구독 수 중 최대값")
+        .register(meterRegistry);
+    this.cleanupLagTimer =
+        Timer.builder("websocket.session.cleanup.lag")
+            .description("연결 종료 이벤트부터 세션 정리 완료까지 걸린 시간")
+            .register(meterRegistry);
+  }
+
+  /** 세션 등록 */
+  public void connect(String sessionId, UUID userId) {
+    sessions.putIfAbsent(sessionId, new SessionInfo(userId));
+  }
+
+  /** 구독 등록 (채팅방 목적지가 아니거나 이미 종료된 세션이면 무시) */
+  public void subscribe(String sessionId, String subscriptionId, String destination) {
+    if (subscriptionId == null
+        || destination == null
+        || !destination.startsWith(ChatBroadcaster.DESTINATION_PREFIX)) {
+      return;
+    }
+    SessionInfo session = sessions.get(sessionId);
+    if (session == null) {
+      return;
+    }
+    String roomId = destination.substring(ChatBroadcaster.DESTINATION_PREFIX.length());
+    if (session.subscriptions.putIfAbsent(subscriptionId, roomId) == null) {
+      increment(roomId);
+    }
+  }
+
+  /** 구독 해제 */
+  public void unsubscribe(String sessionId, String subscriptionId) {
+    SessionInfo session = sessions.get(sessionId);
+    if (session == null || subscriptionId == null) {
+      return;
+    }
+    String roomId = session.subscriptions.remove(subscriptionId);
+    if (roomId != null) {
+      decrement(roomId);
+    }
+  }
+
+  /**
+   * 세션 제거 (해당 세션의 구독만 정리)
+   *
+   * @param disconnectedAt 연결 종료 이벤트 발생 시각 (epoch 밀리초, 정리 지연 시간 기록용)
+   * @return 세션 사용자 ID (등록되지 않은 세션이거나 사용자를 모르면 null)
+   */
+  public UUID disconnect(String sessionId, long disconnectedAt) {
+    SessionInfo session = sessions.remove(sessionId);
+    if (session == null) {
+      return null;
+    }
+    session.subscriptions.values().forEach(this::decrement);
+    cleanupLagTimer.record(
+        Math.max(0, System.currentTimeMillis() - disconnectedAt), TimeUnit.MILLISECONDS);
+    return session.userId;
+  }
+
+  /** 열린 세션 수 */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /** 채팅방 구독 수 */
+  public int getSubscriberCount(String roomId) {
+    return roomSubscriptions.getOrDefault(roomId, 0);
+  }
+
+  private void increment(String roomId) {
+    roomSubscriptions.merge(roomId, 1, Integer::sum);
+    totalRoomSubscriptions.incrementAndGet();
+  }
+
+  private void decrement(String roomId) {
+    // 0이 되면 항목을 제거해 채팅방 수만큼 맵이 계속 커지지 않게 한다
+    roomSubscriptions.computeIfPresent(roomId, (id, count) -> count <= 1 ? null : count - 1);
+    totalRoomSubscriptions.decrementAndGet();
+  }
+
+  private double maxRoomSubscriptions() {
+    int max = 0;
+    for (int count : roomSubscriptions.values()) {
+      max = Math.max(max, count);
+    }
+    return max;
+  }
+
+  /** 세션 정보 */
+  private static final class SessionInfo {
+
+    private final UUID userId;
+
+    // 구독 ID -> 채팅방 ID
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    private SessionInfo(UUID userId) {
+      this.userId = userId;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.example.claude_backend.presentation.api.v1;
 
 import com.example.claude_backend.application.account.dto.AccountResponse;
 import com.example.claude_backend.application.account.service.AccountService;
+import com.example.claude_backend.common.lock.UserLockExecutor;
 import com.example.claude_backend.common.util.SecurityUtil;
 import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
 import java.util.UUID;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
   private final AccountService accountService;
+  private final UserLockExecutor userLockExecutor;
 
   /** 계좌 생성 */
   @PostMapping
@@ -45,7 +47,7 @@ public class AccountController {
       @RequestParam Double amount, Authentication authentication) {
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    accountService.deposit(userId, amount);
+    userLockExecutor.run(userId, () -> accountService.deposit(userId, amount));
 
     return ResponseEntity.ok(ApiResponse.success("입금이 완료되었습니다."));
   }
@@ -56,7 +58,7 @@ public class AccountController {
       @RequestParam Double amount, Authentication authentication) {
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    accountService.withdraw(userId, amount);
+    userLockExecutor.run(userId, () -> accountService.withdraw(userId, amount));
 
     return ResponseEntity.ok(ApiResponse.success("출금이 완료되었습니다."));
   }
@@ -76,7 +78,7 @@ public class AccountController {
       @RequestParam Integer amount, Authentication authentication) {
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    accountService.addAcorn(userId, amount);
+    userLockExecutor.run(userId, () -> accountService.addAcorn(userId, amount));
 
     return ResponseEntity.ok(ApiResponse.success("도토리가 증가되었습니다."));
   }
@@ -87,7 +89,7 @@ public class AccountController {
       @RequestParam Integer amount, Authentication authentication) {
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    accountService.subtractAcorn(userId, amount);
+    userLockExecutor.run(userId, () -> accountService.subtractAcorn(userId, amount));
 
     return ResponseEntity.ok(ApiResponse.success("도토리가 감소되었습니다."));
   }
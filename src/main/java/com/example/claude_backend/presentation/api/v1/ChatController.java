@@ -1,7 +1,9 @@
 package com.example.claude_backend.presentation.api.v1;
 
+import com.example.claude_backend.application.chat.dto.ChatHistoryResponse;
 import com.example.claude_backend.application.chat.dto.ChatMessage;
 import com.example.claude_backend.application.chat.dto.ChatRoomInfo;
+import com.example.claude_backend.application.chat.exception.ChatRoomFullException;
 import com.example.claude_backend.application.chat.service.ChatService;
 import com.example.claude_backend.common.util.SecurityUtil;
 import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
@@ -12,10 +14,13 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,8 +37,10 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "bearerAuth")
 public class ChatController {
 
+  /** 입장 시 전달하는 최근 메시지 수 */
+  private static final int DEFAULT_HISTORY_SIZE = 50;
+
   private final ChatService chatService;
-  private final SimpMessagingTemplate messagingTemplate;
 
   /** 채팅 메시지 전송 (WebSocket STOMP) 클라이언트에서 /app/chat.send로 메시지를 보내면 호출됨 */
   @MessageMapping("/chat.send")
@@ -50,10 +57,7 @@ public class ChatController {
     chatMessage.setSenderId(userId);
 
     // 메시지 전송
-    ChatMessage sentMessage = chatService.sendMessage(chatMessage);
-
-    // 해당 채팅방의 모든 구독자에게 메시지 브로드캐스트
-    messagingTemplate.convertAndSend("/topic/room." + chatMessage.getRoomId(), sentMessage);
+    chatService.sendMessage(chatMessage);
 
     log.debug(
         "채팅 메시지 전송 완료 - 방: {}, 발신자: {}", chatMessage.getRoomId(), chatMessage.getSenderNickname());
@@ -70,10 +74,8 @@ public class ChatController {
     }
 
     // 채팅방 입장 처리
-    ChatMessage joinMessage = chatService.joinRoom(chatMessage.getRoomId(), userId);
-
-    // 해당 채팅방의 모든 구독자에게 입장 메시지 브로드캐스트
-    messagingTemplate.convertAndSend("/topic/room." + chatMessage.getRoomId(), joinMessage);
+    ChatMessage joinMessage =
+        chatService.joinRoom(chatMessage.getRoomId(), userId, headerAccessor.getSessionId());
 
     log.info(
         "채팅방 입장 완료 - 방: {}, 사용자: {}", chatMessage.getRoomId(), joinMessage.getSenderNickname());
@@ -91,15 +93,21 @@ public class ChatController {
     }
 
     // 채팅방 퇴장 처리
-    ChatMessage leaveMessage = chatService.leaveRoom(chatMessage.getRoomId(), userId);
-
-    // 해당 채팅방의 모든 구독자에게 퇴장 메시지 브로드캐스트
-    messagingTemplate.convertAndSend("/topic/room." + chatMessage.getRoomId(), leaveMessage);
+    ChatMessage leaveMessage =
+        chatService.leaveRoom(chatMessage.getRoomId(), userId, headerAccessor.getSessionId());
 
     log.info(
         "채팅방 퇴장 완료 - 방: {}, 사용자: {}", chatMessage.getRoomId(), leaveMessage.getSenderNickname());
   }
 
+  /** 채팅방 입장 거절 (WebSocket STOMP) 요청한 세션의 /user/queue/errors로 응답 */
+  @MessageExceptionHandler(ChatRoomFullException.class)
+  @SendToUser(destinations = "/queue/errors", broadcast = false)
+  public ApiResponse<Void> handleChatRoomFull(ChatRoomFullException ex) {
+    log.warn("채팅방 인원 초과: {}", ex.getMessage());
+    return ApiResponse.error("CHAT_ROOM_FULL", ex.getMessage());
+  }
+
   /** 채팅방 정보 조회 (REST API) */
   @GetMapping("/api/v1/chat/rooms/{roomId}")
   @ResponseBody
@@ -111,6 +119,25 @@ public class ChatController {
     return ApiResponse.success(roomInfo);
   }
 
+  /** 입장 시 최근 메시지 수신 (WebSocket STOMP) 클라이언트가 /app/chat.rooms.{roomId}.history를 구독하면 구독한 세션에만 응답 */
+  @SubscribeMapping("/chat.rooms.{roomId}.history")
+  public ChatHistoryResponse replayHistory(@DestinationVariable String roomId) {
+    return chatService.getMessages(roomId, null, DEFAULT_HISTORY_SIZE);
+  }
+
+  /** 채팅방 최근 메시지 조회 (REST API) */
+  @GetMapping("/api/v1/chat/rooms/{roomId}/messages")
+  @ResponseBody
+  @Operation(summary = "채팅방 최근 메시지 조회", description = "메시지 ID 커서(before)로 이전 메시지를 페이지 단위로 조회합니다.")
+  public ApiResponse<ChatHistoryResponse> getMessages(
+      @PathVariable String roomId,
+      @RequestParam(required = false) Long before,
+      @RequestParam(defaultValue = "50") int size) {
+    log.debug("채팅방 메시지 조회 요청 - 방: {}, before: {}, size: {}", roomId, before, size);
+
+    return ApiResponse.success(chatService.getMessages(roomId, before, size));
+  }
+
   /** 사용자의 접속 채팅방 목록 조회 (REST API) */
   @GetMapping("/api/v1/chat/rooms")
   @ResponseBody
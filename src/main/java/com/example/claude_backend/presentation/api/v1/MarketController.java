@@ -0,0 +1,33 @@
+package com.example.claude_backend.presentation.api.v1;
+
+import com.example.claude_backend.application.stock.dto.PriceIngestResponse;
+import com.example.claude_backend.application.stock.dto.PriceTickRequest;
+import com.example.claude_backend.application.stock.service.MarketDataService;
+import com.example.claude_backend.common.util.SecurityUtil;
+import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/market")
+@RequiredArgsConstructor
+public class MarketController {
+
+  private final MarketDataService marketDataService;
+
+  /** 체결 틱 일괄 수집 (관리자용) */
+  @PostMapping("/ticks")
+  public ResponseEntity<ApiResponse<PriceIngestResponse>> ingestTicks(
+      @RequestBody List<PriceTickRequest> ticks) {
+
+    if (!SecurityUtil.isAdmin()) {
+      throw new AccessDeniedException("시세 수집은 관리자만 사용할 수 있습니다.");
+    }
+    PriceIngestResponse response = marketDataService.ingest(ticks);
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+}
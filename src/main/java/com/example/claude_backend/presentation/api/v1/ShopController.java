@@ -3,6 +3,7 @@ package com.example.claude_backend.presentation.api.v1;
 import com.example.claude_backend.application.shop.dto.DrawRequest;
 import com.example.claude_backend.application.shop.dto.DrawResponse;
 import com.example.claude_backend.application.shop.service.ShopService;
+import com.example.claude_backend.common.lock.UserLockExecutor;
 import com.example.claude_backend.common.util.SecurityUtil;
 import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class ShopController {
 
   private final ShopService shopService;
+  private final UserLockExecutor userLockExecutor;
 
   @Operation(summary = "캐릭터 뽑기", description = "도토리를 사용하여 캐릭터를 뽑습니다.")
   @PostMapping("/draw")
@@ -34,7 +36,8 @@ public class ShopController {
     log.debug("캐릭터 뽑기 요청: {}", request);
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    DrawResponse response = shopService.drawCharacter(userId, request);
+    DrawResponse response =
+        userLockExecutor.execute(userId, () -> shopService.drawCharacter(userId, request));
 
     return ResponseEntity.ok(ApiResponse.success(response));
   }
@@ -1,12 +1,25 @@
 package com.example.claude_backend.presentation.api.v1;
 
+import com.example.claude_backend.application.stock.dto.CandleResponse;
+import com.example.claude_backend.application.stock.dto.SectorSummaryResponse;
+import com.example.claude_backend.application.stock.dto.StockListingRequest;
+import com.example.claude_backend.application.stock.dto.StockPageResponse;
 import com.example.claude_backend.application.stock.dto.StockResponse;
 import com.example.claude_backend.application.stock.service.StockService;
 import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/stocks")
@@ -14,11 +27,39 @@ import org.springframework.web.bind.annotation.*;
 public class StockController {
 
   private final StockService stockService;
+  private final ObjectMapper objectMapper;
 
+  /** 전체 종목 (ApiResponse 형식 그대로 한 종목씩 써서 전체 목록을 메모리에 만들지 않음) */
   @GetMapping
-  public ResponseEntity<ApiResponse<List<StockResponse>>> getAllStocks() {
-    List<StockResponse> stocks = stockService.getAllStocks();
-    return ResponseEntity.ok(ApiResponse.success(stocks));
+  public ResponseEntity<StreamingResponseBody> getAllStocks() {
+    StreamingResponseBody body =
+        outputStream -> {
+          try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeArrayFieldStart("data");
+            stockService.forEachStock(
+                stock -> {
+                  try {
+                    generator.writeObject(stock);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+            generator.writeEndArray();
+            generator.writeObjectField("timestamp", LocalDateTime.now());
+            generator.writeEndObject();
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  /** 정렬/필터 조건의 종목 목록 (커서 페이지) */
+  @GetMapping("/listing")
+  public ResponseEntity<ApiResponse<StockPageResponse>> getStockPage(
+      @ParameterObject StockListingRequest request) {
+    StockPageResponse page = stockService.getStockPage(request);
+    return ResponseEntity.ok(ApiResponse.success(page));
   }
 
   @GetMapping("/{stockCode}")
@@ -27,6 +68,19 @@ public class StockController {
     return ResponseEntity.ok(ApiResponse.success(stock));
   }
 
+  /** 종목 봉(OHLCV) (최근 구간은 메모리, 그 이전 구간만 DB 조회) */
+  @GetMapping("/{stockCode}/candles")
+  public ResponseEntity<ApiResponse<List<CandleResponse>>> getCandles(
+      @PathVariable String stockCode,
+      @RequestParam(defaultValue = "1m") String interval,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to) {
+    List<CandleResponse> candles = stockService.getCandles(stockCode, interval, from, to);
+    return ResponseEntity.ok(ApiResponse.success(candles));
+  }
+
   @GetMapping("/search")
   public ResponseEntity<ApiResponse<List<StockResponse>>> searchStocks(
       @RequestParam String keyword) {
@@ -40,4 +94,17 @@ public class StockController {
     List<StockResponse> stocks = stockService.getStocksBySector(sector);
     return ResponseEntity.ok(ApiResponse.success(stocks));
   }
+
+  @GetMapping("/sector/{sector}/summary")
+  public ResponseEntity<ApiResponse<SectorSummaryResponse>> getSectorSummary(
+      @PathVariable String sector) {
+    SectorSummaryResponse summary = stockService.getSectorSummary(sector);
+    return ResponseEntity.ok(ApiResponse.success(summary));
+  }
+
+  @GetMapping("/sectors")
+  public ResponseEntity<ApiResponse<List<SectorSummaryResponse>>> getSectorSummaries() {
+    List<SectorSummaryResponse> summaries = stockService.getSectorSummaries();
+    return ResponseEntity.ok(ApiResponse.success(summaries));
+  }
 }
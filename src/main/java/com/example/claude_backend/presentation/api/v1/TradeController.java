@@ -4,6 +4,7 @@ import com.example.claude_backend.application.trade.dto.PortfolioResponse;
 import com.example.claude_backend.application.trade.dto.TradeRequest;
 import com.example.claude_backend.application.trade.dto.TradeResponse;
 import com.example.claude_backend.application.trade.service.TradeService;
+import com.example.claude_backend.common.lock.UserLockExecutor;
 import com.example.claude_backend.common.util.SecurityUtil;
 import com.example.claude_backend.presentation.api.v1.response.ApiResponse;
 import java.util.List;
@@ -19,13 +20,15 @@ import org.springframework.web.bind.annotation.*;
 public class TradeController {
 
   private final TradeService tradeService;
+  private final UserLockExecutor userLockExecutor;
 
   @PostMapping
   public ResponseEntity<ApiResponse<TradeResponse>> executeTrade(
       @RequestBody TradeRequest request, Authentication authentication) {
 
     UUID userId = SecurityUtil.getCurrentUserId();
-    TradeResponse response = tradeService.executeTrade(request, userId);
+    TradeResponse response =
+        userLockExecutor.execute(userId, () -> tradeService.executeTrade(request, userId));
 
     return ResponseEntity.ok(ApiResponse.success(response));
   }
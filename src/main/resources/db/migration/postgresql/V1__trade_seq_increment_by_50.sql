@@ -0,0 +1,3 @@
+-- trade_seq를 ID 50개 단위 블록 할당으로 변경 (Trade.ID_ALLOCATION_SIZE, TradeIdAllocator와 일치)
+-- 시퀀스가 아직 없는 DB(JPA가 새로 만드는 경우)는 변경하지 않는다.
+ALTER SEQUENCE IF EXISTS trade_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- 봉의 첫/마지막 체결 시각 (늦게 들어온 이전 시각의 틱이 시가/종가를 덮어쓰지 않도록 비교 기준으로 사용)
+-- 봉 테이블이 아직 없는 DB는 schema.sql로 만들 때 함께 생긴다.
+ALTER TABLE IF EXISTS stock_candles ADD COLUMN IF NOT EXISTS opened_at TIMESTAMP;
+ALTER TABLE IF EXISTS stock_candles ADD COLUMN IF NOT EXISTS closed_at TIMESTAMP;
@@ -0,0 +1,28 @@
+-- 봉/체결 틱 테이블 (거래일 단위 범위 파티션, stock_candles_yyyymmdd/stock_ticks_yyyymmdd는 애플리케이션이 미리 생성)
+-- V2는 테이블이 이미 있던 DB에만 열을 추가하므로, 새 DB는 여기서 전체 구조로 만든다.
+CREATE TABLE IF NOT EXISTS stock_candles (
+    ticker VARCHAR(20) NOT NULL,
+    period_minutes SMALLINT NOT NULL, -- 봉 주기 (1, 5, 60, 1440)
+    bucket_start TIMESTAMP NOT NULL,
+    open_price BIGINT NOT NULL,
+    high_price BIGINT NOT NULL,
+    low_price BIGINT NOT NULL,
+    close_price BIGINT NOT NULL,
+    volume BIGINT NOT NULL DEFAULT 0,
+    opened_at TIMESTAMP, -- 첫 체결 시각 (시가 기준)
+    closed_at TIMESTAMP, -- 마지막 체결 시각 (종가 기준)
+    PRIMARY KEY (ticker, period_minutes, bucket_start)
+) PARTITION BY RANGE (bucket_start);
+
+CREATE TABLE IF NOT EXISTS stock_candles_default PARTITION OF stock_candles DEFAULT;
+
+CREATE TABLE IF NOT EXISTS stock_ticks (
+    ticker VARCHAR(20) NOT NULL,
+    traded_at TIMESTAMP NOT NULL,
+    price BIGINT NOT NULL,
+    volume BIGINT NOT NULL
+) PARTITION BY RANGE (traded_at);
+
+CREATE TABLE IF NOT EXISTS stock_ticks_default PARTITION OF stock_ticks DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_stock_ticks_ticker_traded_at ON stock_ticks(ticker, traded_at);
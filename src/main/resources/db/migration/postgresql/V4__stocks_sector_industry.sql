@@ -0,0 +1,10 @@
+-- 종목 업종 분류 (섹터/세부 업종) 및 섹터 필터 인덱스
+ALTER TABLE IF EXISTS stocks ADD COLUMN IF NOT EXISTS sector VARCHAR(50);
+ALTER TABLE IF EXISTS stocks ADD COLUMN IF NOT EXISTS industry VARCHAR(100);
+
+DO $$
+BEGIN
+    IF to_regclass('stocks') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_stocks_sector ON stocks(sector);
+    END IF;
+END $$;
@@ -91,16 +91,54 @@ CREATE TABLE IF NOT EXISTS stocks (
     pbr DECIMAL(19, 2),
     trade_date DATE,
     trade_time TIME,
+    sector VARCHAR(50),
+    industry VARCHAR(100),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 업종 분류 (기존 테이블용, 값은 db/stock-sectors.csv에서 시작 시 반영)
+ALTER TABLE stocks ADD COLUMN IF NOT EXISTS sector VARCHAR(50);
+ALTER TABLE stocks ADD COLUMN IF NOT EXISTS industry VARCHAR(100);
+
 -- 주식 인덱스
 CREATE INDEX IF NOT EXISTS idx_stocks_ticker ON stocks(ticker);
 CREATE INDEX IF NOT EXISTS idx_stocks_name ON stocks(name);
-
--- 거래 테이블 시퀀스
-CREATE SEQUENCE IF NOT EXISTS trade_seq START 1;
+CREATE INDEX IF NOT EXISTS idx_stocks_sector ON stocks(sector);
+
+-- 봉 테이블 (1/100원 단위 가격, 거래일 단위 범위 파티션: stock_candles_yyyymmdd는 애플리케이션이 오늘/다음 거래일분을 미리 생성)
+CREATE TABLE IF NOT EXISTS stock_candles (
+    ticker VARCHAR(20) NOT NULL,
+    period_minutes SMALLINT NOT NULL, -- 봉 주기 (1, 5, 60, 1440)
+    bucket_start TIMESTAMP NOT NULL,
+    open_price BIGINT NOT NULL,
+    high_price BIGINT NOT NULL,
+    low_price BIGINT NOT NULL,
+    close_price BIGINT NOT NULL,
+    volume BIGINT NOT NULL DEFAULT 0,
+    opened_at TIMESTAMP, -- 첫 체결 시각 (시가 기준)
+    closed_at TIMESTAMP, -- 마지막 체결 시각 (종가 기준)
+    PRIMARY KEY (ticker, period_minutes, bucket_start)
+) PARTITION BY RANGE (bucket_start);
+
+CREATE TABLE IF NOT EXISTS stock_candles_default PARTITION OF stock_candles DEFAULT;
+
+-- 체결 틱 기록 (추가 전용, 거래일 단위 범위 파티션)
+CREATE TABLE IF NOT EXISTS stock_ticks (
+    ticker VARCHAR(20) NOT NULL,
+    traded_at TIMESTAMP NOT NULL,
+    price BIGINT NOT NULL,
+    volume BIGINT NOT NULL
+) PARTITION BY RANGE (traded_at);
+
+CREATE TABLE IF NOT EXISTS stock_ticks_default PARTITION OF stock_ticks DEFAULT;
+
+-- 체결 틱 인덱스
+CREATE INDEX IF NOT EXISTS idx_stock_ticks_ticker_traded_at ON stock_ticks(ticker, traded_at);
+
+-- 거래 테이블 시퀀스 (ID 50개 단위 블록 할당, Trade.ID_ALLOCATION_SIZE와 일치)
+CREATE SEQUENCE IF NOT EXISTS trade_seq START 1 INCREMENT BY 50;
+ALTER SEQUENCE trade_seq INCREMENT BY 50;
 
 -- 거래 테이블 (기존 구조에 맞춰 수정)
 CREATE TABLE IF NOT EXISTS trades (
@@ -0,0 +1,136 @@
+package com.example.claude_backend.application.stock.candle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CandleSeriesTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 20, 9, 0);
+
+  private final CandleSeries series = new CandleSeries("005930", CandleInterval.MINUTE_1, 3, T0);
+
+  @Test
+  void evictsOldestCandleAndRaisesCoveredFrom() {
+    series.apply(T0.plusSeconds(10), 100, 1);
+    series.apply(T0.plusMinutes(1), 110, 2);
+    assertThat(series.apply(T0.plusMinutes(2), 120, 3)).isNull();
+
+    Candle evicted = series.apply(T0.plusMinutes(3), 130, 4);
+
+    assertThat(evicted.getBucketStart()).isEqualTo(T0);
+    assertThat(evicted.getClose()).isEqualTo(100);
+    assertThat(evicted.getVolume()).isEqualTo(1);
+    CandleSeries.Slice slice = series.slice(T0, T0.plusMinutes(3));
+    assertThat(slice.getCoveredFrom()).isAfter(T0).isBefore(T0.plusMinutes(1));
+    assertThat(slice.getCandles())
+        .extracting(Candle::getBucketStart)
+        .containsExactly(T0.plusMinutes(1), T0.plusMinutes(2), T0.plusMinutes(3));
+  }
+
+  @Test
+  void evictingAnAlreadyFlushedCandleReturnsNothing() {
+    series.apply(T0, 100, 1);
+    series.apply(T0.plusMinutes(1), 110, 1);
+    series.apply(T0.plusMinutes(2), 120, 1);
+    series.drainDirty(new ArrayList<>());
+
+    assertThat(series.apply(T0.plusMinutes(3), 130, 1)).isNull();
+  }
+
+  @Test
+  void returnsTicksBeforeCoveredFromWithoutTouchingTheRing() {
+    Candle outside = series.apply(T0.minusMinutes(5).plusSeconds(30), 90, 7);
+
+    assertThat(outside.getBucketStart()).isEqualTo(T0.minusMinutes(5));
+    assertThat(outside.getOpen()).isEqualTo(90);
+    assertThat(outside.getVolume()).isEqualTo(7);
+    assertThat(series.slice(T0.minusMinutes(10), T0.plusMinutes(10)).getCandles()).isEmpty();
+  }
+
+  @Test
+  void returnsTicksOlderThanAFullRingWithoutEvicting() {
+    series.apply(T0.plusMinutes(2), 120, 1);
+    series.apply(T0.plusMinutes(3), 130, 1);
+    series.apply(T0.plusMinutes(4), 140, 1);
+
+    Candle outside = series.apply(T0.plusMinutes(1), 110, 1);
+
+    assertThat(outside.getBucketStart()).isEqualTo(T0.plusMinutes(1));
+    assertThat(series.slice(T0, T0.plusMinutes(4)).getCandles()).hasSize(3);
+  }
+
+  @Test
+  void insertsLateBucketsInOrder() {
+    series.apply(T0, 100, 1);
+    series.apply(T0.plusMinutes(2), 120, 1);
+    series.apply(T0.plusMinutes(1), 110, 1);
+
+    assertThat(series.slice(T0, T0.plusMinutes(2)).getCandles())
+        .extracting(Candle::getClose)
+        .containsExactly(100L, 110L, 120L);
+  }
+
+  @Test
+  void keepsOpenAndCloseByTradeTime() {
+    series.apply(T0.plusSeconds(20), 100, 1);
+    series.apply(T0.plusSeconds(40), 300, 1);
+    series.apply(T0.plusSeconds(10), 200, 1);
+    series.apply(T0.plusSeconds(30), 50, 1);
+
+    Candle candle = series.slice(T0, T0).getCandles().get(0);
+
+    assertThat(candle.getOpen()).isEqualTo(200);
+    assertThat(candle.getClose()).isEqualTo(300);
+    assertThat(candle.getHigh()).isEqualTo(300);
+    assertThat(candle.getLow()).isEqualTo(50);
+    assertThat(candle.getOpenedAt()).isEqualTo(T0.plusSeconds(10));
+    assertThat(candle.getClosedAt()).isEqualTo(T0.plusSeconds(40));
+  }
+
+  @Test
+  void drainsVolumeIncrementsOnly() {
+    series.apply(T0, 100, 5);
+    List<Candle> first = new ArrayList<>();
+    series.drainDirty(first);
+    List<Candle> empty = new ArrayList<>();
+    series.drainDirty(empty);
+    series.apply(T0.plusSeconds(30), 110, 2);
+    List<Candle> second = new ArrayList<>();
+    series.drainDirty(second);
+
+    assertThat(first).extracting(Candle::getVolume).containsExactly(5L);
+    assertThat(empty).isEmpty();
+    assertThat(second).extracting(Candle::getVolume).containsExactly(2L);
+    assertThat(series.slice(T0, T0).getCandles().get(0).getVolume()).isEqualTo(7);
+  }
+
+  @Test
+  void continuesFromLoadedCandles() {
+    series.load(
+        List.of(
+            Candle.builder()
+                .ticker("005930")
+                .interval(CandleInterval.MINUTE_1)
+                .bucketStart(T0)
+                .open(100)
+                .high(100)
+                .low(100)
+                .close(100)
+                .volume(10)
+                .openedAt(T0.plusSeconds(5))
+                .closedAt(T0.plusSeconds(50))
+                .build()));
+
+    series.apply(T0.plusSeconds(40), 90, 1);
+    List<Candle> drained = series.drainAll();
+
+    assertThat(drained).hasSize(1);
+    assertThat(drained.get(0).getClose()).isEqualTo(100);
+    assertThat(drained.get(0).getLow()).isEqualTo(90);
+    assertThat(drained.get(0).getVolume()).isEqualTo(1);
+  }
+}
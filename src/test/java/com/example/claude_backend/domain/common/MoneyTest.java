@@ -0,0 +1,45 @@
+package com.example.claude_backend.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+  @Test
+  void roundsDoubleHalfUpByDecimalValue() {
+    assertThat(Money.of(1.005).getUnits()).isEqualTo(101);
+    assertThat(Money.of(0.285).getUnits()).isEqualTo(29);
+    assertThat(Money.of(10.075).getUnits()).isEqualTo(1008);
+    assertThat(Money.of(1234.565).getUnits()).isEqualTo(123457);
+    assertThat(Money.of(-1.005).getUnits()).isEqualTo(-101);
+  }
+
+  @Test
+  void doubleAndBigDecimalAgree() {
+    for (String amount : new String[] {"0.01", "0.285", "72500.5", "1234.564", "99999.995"}) {
+      assertThat(Money.of(Double.parseDouble(amount)))
+          .as(amount)
+          .isEqualTo(Money.of(new BigDecimal(amount)));
+    }
+  }
+
+  @Test
+  void rejectsNonFiniteAndOutOfRangeDoubles() {
+    assertThatThrownBy(() -> Money.of(Double.NaN)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> Money.of(Double.POSITIVE_INFINITY))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> Money.of(1e17)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void convertsBackToWon() {
+    Money money = Money.of(new BigDecimal("72500.456"));
+
+    assertThat(money.getUnits()).isEqualTo(7250046);
+    assertThat(money.toBigDecimal()).isEqualByComparingTo("72500.46");
+    assertThat(money.toString()).isEqualTo("72500.46");
+  }
+}
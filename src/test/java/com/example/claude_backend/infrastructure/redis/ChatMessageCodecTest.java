@@ -0,0 +1,91 @@
+package com.example.claude_backend.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.claude_backend.application.chat.dto.ChatMessage;
+import com.example.claude_backend.application.chat.dto.ChatMessage.MessageType;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageCodecTest {
+
+  @Test
+  void roundTripsAllFields() {
+    ChatMessage message =
+        ChatMessage.builder()
+            .id(1234567890123L)
+            .type(MessageType.CHAT)
+            .roomId("005930")
+            .senderId(UUID.randomUUID())
+            .senderNickname("개미투자자")
+            .senderCharacterCode("CHAR_01")
+            .content("삼성전자 가즈아 🚀 " + "x".repeat(300))
+            .timestamp(LocalDateTime.of(2025, 1, 20, 9, 30, 15, 123_000_000))
+            .build();
+
+    ChatMessageCodec.Frame frame =
+        ChatMessageCodec.decode(ChatMessageCodec.encode("node-a", message));
+
+    assertThat(frame.getOrigin()).isEqualTo("node-a");
+    assertThat(frame.getMessage()).usingRecursiveComparison().isEqualTo(message);
+  }
+
+  @Test
+  void roundTripsNullFieldsAndOmitsFlaggedFields() {
+    ChatMessage message = ChatMessage.builder().type(MessageType.JOIN).roomId("room").build();
+
+    byte[] encoded = ChatMessageCodec.encode(null, message);
+    ChatMessageCodec.Frame frame = ChatMessageCodec.decode(encoded);
+
+    // 헤더 3바이트 + 길이 0(null) 또는 1바이트 길이의 문자열 5개
+    assertThat(encoded).hasSize(3 + 1 + (1 + 4) + 1 + 1 + 1);
+    assertThat(encoded[2]).isZero();
+    assertThat(frame.getOrigin()).isNull();
+    assertThat(frame.getMessage()).usingRecursiveComparison().isEqualTo(message);
+  }
+
+  @Test
+  void roundTripsNullTypeAndEmptyStrings() {
+    ChatMessage message =
+        ChatMessage.builder().id(-1L).roomId("").content("").senderNickname(null).build();
+
+    ChatMessage decoded =
+        ChatMessageCodec.decode(ChatMessageCodec.encode("", message)).getMessage();
+
+    assertThat(decoded.getType()).isNull();
+    assertThat(decoded.getId()).isEqualTo(-1L);
+    assertThat(decoded.getRoomId()).isEmpty();
+    assertThat(decoded.getContent()).isEmpty();
+    assertThat(decoded.getSenderNickname()).isNull();
+  }
+
+  @Test
+  void rejectsUnknownVersion() {
+    byte[] encoded =
+        ChatMessageCodec.encode("node-a", ChatMessage.builder().type(MessageType.CHAT).build());
+    encoded[0] = 2;
+
+    assertThatThrownBy(() -> ChatMessageCodec.decode(encoded))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("버전");
+  }
+
+  @Test
+  void rejectsUnknownTypeAndTruncatedInput() {
+    byte[] encoded =
+        ChatMessageCodec.encode(
+            "node-a", ChatMessage.builder().type(MessageType.LEAVE).content("bye").build());
+    byte[] unknownType = encoded.clone();
+    unknownType[1] = 9;
+
+    assertThatThrownBy(() -> ChatMessageCodec.decode(unknownType))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ChatMessageCodec.decode(Arrays.copyOf(encoded, encoded.length - 2)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ChatMessageCodec.decode(new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.claude_backend.infrastructure.websocket.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+  @Test
+  void allowsBurstThenRejects() {
+    TokenBucket bucket = new TokenBucket(5, 1, clock::get);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(bucket.tryAcquire()).as("token %d", i).isTrue();
+    }
+    assertThat(bucket.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void refillsAtConfiguredRate() {
+    TokenBucket bucket = new TokenBucket(2, 4, clock::get);
+    bucket.tryAcquire();
+    bucket.tryAcquire();
+    assertThat(bucket.tryAcquire()).isFalse();
+
+    clock.addAndGet(SECOND / 4 - 1);
+    assertThat(bucket.tryAcquire()).isFalse();
+    clock.addAndGet(1);
+    assertThat(bucket.tryAcquire()).isTrue();
+    assertThat(bucket.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void doesNotAccumulateBeyondBurstWhileIdle() {
+    TokenBucket bucket = new TokenBucket(3, 10, clock::get);
+
+    clock.addAndGet(60 * SECOND);
+
+    int granted = 0;
+    while (bucket.tryAcquire()) {
+      granted++;
+    }
+    assertThat(granted).isEqualTo(3);
+  }
+
+  @Test
+  void grantsExactlyBurstUnderContention() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(100, 1, clock::get);
+    AtomicInteger granted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int thread = 0; thread < 8; thread++) {
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            for (int i = 0; i < 100; i++) {
+              if (bucket.tryAcquire()) {
+                granted.incrementAndGet();
+              }
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(granted).hasValue(100);
+  }
+
+  @Test
+  void rejectsInvalidSettings() {
+    assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}